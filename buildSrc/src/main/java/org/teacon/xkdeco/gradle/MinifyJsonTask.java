@@ -0,0 +1,281 @@
+package org.teacon.xkdeco.gradle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+
+/**
+ * Strips insignificant whitespace from json files. Only files that changed since the last run are processed, in
+ * parallel, and the output keeps the path of each file relative to its source root. Malformed files fail the build.
+ */
+public abstract class MinifyJsonTask extends DefaultTask {
+	@Incremental
+	@InputFiles
+	@PathSensitive(PathSensitivity.RELATIVE)
+	public abstract ConfigurableFileCollection getSource();
+
+	@OutputDirectory
+	public abstract DirectoryProperty getDestinationDir();
+
+	@Inject
+	protected abstract FileSystemOperations getFileSystemOperations();
+
+	@TaskAction
+	public void minify(InputChanges inputChanges) throws IOException {
+		long start = System.currentTimeMillis();
+		Path destination = getDestinationDir().get().getAsFile().toPath();
+		if (!inputChanges.isIncremental()) {
+			getFileSystemOperations().delete(spec -> spec.delete(destination.toFile()));
+			Files.createDirectories(destination);
+		}
+		List<FileChange> changes = new ArrayList<>();
+		for (FileChange change : inputChanges.getFileChanges(getSource())) {
+			if (change.getFileType() != FileType.DIRECTORY) {
+				changes.add(change);
+			}
+		}
+		AtomicLong minified = new AtomicLong();
+		AtomicLong bytesSaved = new AtomicLong();
+		changes.parallelStream().forEach(change -> {
+			Path target = destination.resolve(change.getNormalizedPath());
+			try {
+				if (change.getChangeType() == ChangeType.REMOVED) {
+					Files.deleteIfExists(target);
+					return;
+				}
+				byte[] json = Files.readAllBytes(change.getFile().toPath());
+				new JsonValidator(json, change.getNormalizedPath()).validate();
+				byte[] buffer = new byte[json.length];
+				int length = minify(json, buffer, change.getNormalizedPath());
+				Files.createDirectories(target.getParent());
+				try (var output = Files.newOutputStream(target)) {
+					output.write(buffer, 0, length);
+				}
+				minified.incrementAndGet();
+				bytesSaved.addAndGet(json.length - length);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		getLogger().lifecycle(
+				"Minified {} json files. Saved {}KB. Took {}ms.",
+				minified.get(),
+				Math.round(bytesSaved.get() / 1024.0),
+				System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * Copies {@code json} into {@code out} without whitespace outside of strings. Works on UTF-8 bytes directly, since
+	 * no byte of a multibyte sequence can be mistaken for a quote, a backslash or whitespace.
+	 *
+	 * @return the number of bytes written
+	 */
+	static int minify(byte[] json, byte[] out, String path) {
+		int length = 0;
+		boolean inString = false;
+		boolean escaped = false;
+		for (byte b : json) {
+			if (inString) {
+				out[length++] = b;
+				if (escaped) {
+					escaped = false;
+				} else if (b == '\\') {
+					escaped = true;
+				} else if (b == '"') {
+					inString = false;
+				}
+			} else if (b == '"') {
+				out[length++] = b;
+				inString = true;
+			} else if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+				out[length++] = b;
+			}
+		}
+		if (inString) {
+			throw new GradleException("Unterminated string in " + path);
+		}
+		return length;
+	}
+
+	/**
+	 * Checks that a file is a single well-formed json value, without building a tree. Mirrors the byte-level approach of
+	 * {@link #minify}, so that a file is never minified into something the game cannot read.
+	 */
+	static final class JsonValidator {
+		private final byte[] json;
+		private final String path;
+		private int pos;
+
+		JsonValidator(byte[] json, String path) {
+			this.json = json;
+			this.path = path;
+		}
+
+		void validate() {
+			value();
+			skipWhitespace();
+			if (pos < json.length) {
+				throw error("Unexpected content after the json value");
+			}
+		}
+
+		private void value() {
+			skipWhitespace();
+			if (pos >= json.length) {
+				throw error("Unexpected end of file");
+			}
+			switch (json[pos]) {
+				case '{' -> object();
+				case '[' -> array();
+				case '"' -> string();
+				case 't' -> literal("true");
+				case 'f' -> literal("false");
+				case 'n' -> literal("null");
+				default -> number();
+			}
+		}
+
+		private void object() {
+			pos++;
+			if (peek() == '}') {
+				pos++;
+				return;
+			}
+			while (true) {
+				if (peek() != '"') {
+					throw error("Expected a key");
+				}
+				string();
+				expect(':');
+				value();
+				if (peek() != ',') {
+					expect('}');
+					return;
+				}
+				pos++;
+			}
+		}
+
+		private void array() {
+			pos++;
+			if (peek() == ']') {
+				pos++;
+				return;
+			}
+			while (true) {
+				value();
+				if (peek() != ',') {
+					expect(']');
+					return;
+				}
+				pos++;
+			}
+		}
+
+		private void string() {
+			pos++;
+			while (pos < json.length) {
+				byte b = json[pos++];
+				if (b == '"') {
+					return;
+				}
+				if (b == '\\') {
+					pos++;
+				} else if (b >= 0 && b < 0x20) {
+					throw error("Unescaped control character in a string");
+				}
+			}
+			throw error("Unterminated string");
+		}
+
+		private void literal(String literal) {
+			for (int i = 0; i < literal.length(); i++) {
+				if (pos >= json.length || json[pos] != literal.charAt(i)) {
+					throw error("Unexpected character");
+				}
+				pos++;
+			}
+		}
+
+		private void number() {
+			int start = pos;
+			if (pos < json.length && json[pos] == '-') {
+				pos++;
+			}
+			if (digits() == 0) {
+				pos = start;
+				throw error("Unexpected character");
+			}
+			if (pos < json.length && json[pos] == '.') {
+				pos++;
+				if (digits() == 0) {
+					throw error("Expected a digit");
+				}
+			}
+			if (pos < json.length && (json[pos] == 'e' || json[pos] == 'E')) {
+				pos++;
+				if (pos < json.length && (json[pos] == '+' || json[pos] == '-')) {
+					pos++;
+				}
+				if (digits() == 0) {
+					throw error("Expected a digit");
+				}
+			}
+		}
+
+		private int digits() {
+			int start = pos;
+			while (pos < json.length && json[pos] >= '0' && json[pos] <= '9') {
+				pos++;
+			}
+			return pos - start;
+		}
+
+		private void expect(char c) {
+			if (peek() != c) {
+				throw error("Expected '" + c + "'");
+			}
+			pos++;
+		}
+
+		/**
+		 * Skips whitespace and returns the next byte, or -1 at the end of the file.
+		 */
+		private int peek() {
+			skipWhitespace();
+			return pos < json.length ? json[pos] : -1;
+		}
+
+		private void skipWhitespace() {
+			while (pos < json.length && (json[pos] == ' ' || json[pos] == '\n' || json[pos] == '\r' || json[pos] == '\t')) {
+				pos++;
+			}
+		}
+
+		private GradleException error(String message) {
+			return new GradleException("Malformed json in %s at byte %d: %s".formatted(path, pos, message));
+		}
+	}
+}
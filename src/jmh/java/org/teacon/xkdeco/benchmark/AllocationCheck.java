@@ -0,0 +1,56 @@
+package org.teacon.xkdeco.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the paths that must not allocate with the gc profiler, and fails when any of them allocates.
+ * Run with {@code gradlew jmhAllocationCheck}.
+ */
+public final class AllocationCheck {
+	private static final List<String> ALLOCATION_FREE = List.of(
+			"org\\.teacon\\.xkdeco\\.block\\.AirDuctBlockBenchmark\\.updateShape",
+			"org\\.teacon\\.xkdeco\\.block\\.AirDuctBlockBenchmark\\.getStateForPlacement",
+			"org\\.teacon\\.xkdeco\\.block\\.HangingFasciaBlockBenchmark\\.getSideAt",
+			"org\\.teacon\\.xkdeco\\.block\\.impl\\.MetalLadderCanSurviveHandlerBenchmark\\.canSurvive");
+	/**
+	 * The profiler estimates allocation from TLAB counters, so a path that allocates nothing still reads a little above
+	 * zero. Anything that allocates an object reads at least 16 B/op.
+	 */
+	private static final double MAX_BYTES_PER_OP = 1;
+
+	private AllocationCheck() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		var options = new OptionsBuilder()
+				.addProfiler(GCProfiler.class)
+				.forks(1)
+				.warmupIterations(3)
+				.measurementIterations(3);
+		ALLOCATION_FREE.forEach(options::include);
+		var failures = 0;
+		for (RunResult result : new Runner(options.build()).run()) {
+			var params = result.getParams();
+			for (var entry : result.getSecondaryResults().entrySet()) {
+				if (!entry.getKey().endsWith("gc.alloc.rate.norm")) {
+					continue;
+				}
+				var bytesPerOp = entry.getValue().getScore();
+				if (bytesPerOp >= MAX_BYTES_PER_OP) {
+					var paramValues = params.getParamsKeys().stream().map(key -> key + "=" + params.getParam(key)).toList();
+					System.err.printf("%s %s allocates %.1f B/op%n", params.getBenchmark(), paramValues, bytesPerOp);
+					++failures;
+				}
+			}
+		}
+		if (failures > 0) {
+			throw new IllegalStateException(failures + " allocation-free benchmarks allocated");
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package org.teacon.xkdeco.benchmark;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.common.collect.Maps;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import snownee.kiwi.util.NotNullByDefault;
+
+/**
+ * A map-backed {@link BlockGetter}, everything not set is air. Benchmarks of code that only reads blocks use this
+ * directly, {@link BenchmarkLevel} extends it for methods whose signature asks for a level.
+ */
+@NotNullByDefault
+public class BenchmarkBlockGetter implements BlockGetter {
+	private final Map<BlockPos, BlockState> blocks = Maps.newHashMap();
+
+	public BenchmarkBlockGetter set(BlockPos pos, BlockState state) {
+		this.blocks.put(pos.immutable(), state);
+		return this;
+	}
+
+	@Nullable
+	@Override
+	public BlockEntity getBlockEntity(BlockPos pPos) {
+		return null;
+	}
+
+	@Override
+	public BlockState getBlockState(BlockPos pPos) {
+		return this.blocks.getOrDefault(pPos, Blocks.AIR.defaultBlockState());
+	}
+
+	@Override
+	public FluidState getFluidState(BlockPos pPos) {
+		return this.getBlockState(pPos).getFluidState();
+	}
+
+	@Override
+	public int getHeight() {
+		return 384;
+	}
+
+	@Override
+	public int getMinBuildHeight() {
+		return -64;
+	}
+}
@@ -0,0 +1,54 @@
+package org.teacon.xkdeco.benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Brings up the vanilla registries without starting the game, so blocks and shapes can be used in benchmarks.
+ */
+public final class BenchmarkBootstrap {
+	private static boolean bootstrapped;
+
+	private BenchmarkBootstrap() {
+	}
+
+	public static synchronized void bootstrap() {
+		if (bootstrapped) {
+			return;
+		}
+		bootstrapped = true;
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+		// bootstrapping freezes the registries, which stops blocks from being constructed
+		((MappedRegistry<Block>) BuiltInRegistries.BLOCK).unfreeze();
+		// tags are normally bound by a data pack reload, only the ones the benchmarks depend on are bound here
+		BuiltInRegistries.BLOCK.bindTags(Map.of(
+				BlockTags.WALLS,
+				List.<Holder<Block>>of(Blocks.COBBLESTONE_WALL.builtInRegistryHolder(), Blocks.STONE_BRICK_WALL.builtInRegistryHolder()),
+				BlockTags.CLIMBABLE,
+				List.<Holder<Block>>of(Blocks.LADDER.builtInRegistryHolder())));
+	}
+
+	/**
+	 * Gives the states of a block built by a benchmark an id, like registration does, so that per-state id caches
+	 * take the same path as in game.
+	 */
+	public static <T extends Block> T withStateIds(T block) {
+		withStateIds(block.getStateDefinition().getPossibleStates());
+		return block;
+	}
+
+	public static void withStateIds(List<BlockState> states) {
+		states.forEach(Block.BLOCK_STATE_REGISTRY::add);
+	}
+}
@@ -0,0 +1,254 @@
+package org.teacon.xkdeco.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.DifficultyInstance;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ColorResolver;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkSource;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.storage.LevelData;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import net.minecraft.world.ticks.LevelTickAccess;
+import snownee.kiwi.util.NotNullByDefault;
+
+/**
+ * {@link BenchmarkBlockGetter} as a {@link LevelAccessor}, for the shape update and survival checks whose signatures
+ * ask for one. Only block reads and writes are supported, everything else throws.
+ */
+@NotNullByDefault
+public final class BenchmarkLevel extends BenchmarkBlockGetter implements LevelAccessor {
+	private int writeFlags;
+
+	@Override
+	public BenchmarkLevel set(BlockPos pos, BlockState state) {
+		super.set(pos, state);
+		return this;
+	}
+
+	/**
+	 * Every update flag passed to {@link #setBlock} so far, or'ed together.
+	 */
+	public int writeFlags() {
+		return this.writeFlags;
+	}
+
+	@Override
+	public boolean isClientSide() {
+		return false;
+	}
+
+	@Override
+	public boolean hasChunk(int pChunkX, int pChunkZ) {
+		return true;
+	}
+
+	@Override
+	public boolean isStateAtPosition(BlockPos pPos, Predicate<BlockState> pState) {
+		return pState.test(this.getBlockState(pPos));
+	}
+
+	@Override
+	public boolean isFluidAtPosition(BlockPos pPos, Predicate<FluidState> pPredicate) {
+		return pPredicate.test(this.getFluidState(pPos));
+	}
+
+	@Override
+	public boolean setBlock(BlockPos pPos, BlockState pState, int pFlags, int pRecursionLeft) {
+		this.set(pPos, pState);
+		this.writeFlags |= pFlags;
+		return true;
+	}
+
+	// not used by any benchmark
+
+	public float getShade(Direction pDirection, boolean pShade) {
+		throw new UnsupportedOperationException();
+	}
+
+	public LevelLightEngine getLightEngine() {
+		throw new UnsupportedOperationException();
+	}
+
+	public int getBlockTint(BlockPos pBlockPos, ColorResolver pColorResolver) {
+		throw new UnsupportedOperationException();
+	}
+
+	public WorldBorder getWorldBorder() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Nullable
+	public BlockGetter getChunkForCollisions(int pChunkX, int pChunkZ) {
+		throw new UnsupportedOperationException();
+	}
+
+	public List<VoxelShape> getEntityCollisions(@Nullable Entity pEntity, AABB pCollisionBox) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Nullable
+	public ChunkAccess getChunk(int pX, int pZ, ChunkStatus pRequiredStatus, boolean pNonnull) {
+		throw new UnsupportedOperationException();
+	}
+
+	public int getHeight(Heightmap.Types pHeightmapType, int pX, int pZ) {
+		throw new UnsupportedOperationException();
+	}
+
+	public int getSkyDarken() {
+		throw new UnsupportedOperationException();
+	}
+
+	public BiomeManager getBiomeManager() {
+		throw new UnsupportedOperationException();
+	}
+
+	public Holder<Biome> getUncachedNoiseBiome(int pX, int pY, int pZ) {
+		throw new UnsupportedOperationException();
+	}
+
+	public int getSeaLevel() {
+		throw new UnsupportedOperationException();
+	}
+
+	public DimensionType dimensionType() {
+		throw new UnsupportedOperationException();
+	}
+
+	public RegistryAccess registryAccess() {
+		throw new UnsupportedOperationException();
+	}
+
+	public FeatureFlagSet enabledFeatures() {
+		throw new UnsupportedOperationException();
+	}
+
+	public List<Entity> getEntities(@Nullable Entity pEntity, AABB pArea, Predicate<? super Entity> pPredicate) {
+		throw new UnsupportedOperationException();
+	}
+
+	public <T extends Entity> List<T> getEntities(EntityTypeTest<Entity, T> pEntityTypeTest, AABB pBounds, Predicate<? super T> pPredicate) {
+		throw new UnsupportedOperationException();
+	}
+
+	public List<? extends Player> players() {
+		throw new UnsupportedOperationException();
+	}
+
+	public <T extends BlockEntity> Optional<T> getBlockEntity(BlockPos pPos, BlockEntityType<T> pBlockEntityType) {
+		return Optional.empty();
+	}
+
+	public BlockPos getHeightmapPos(Heightmap.Types pHeightmapType, BlockPos pPos) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean removeBlock(BlockPos pPos, boolean pIsMoving) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean destroyBlock(BlockPos pPos, boolean pDropBlock, @Nullable Entity pEntity, int pRecursionLeft) {
+		throw new UnsupportedOperationException();
+	}
+
+	public long dayTime() {
+		throw new UnsupportedOperationException();
+	}
+
+	public LevelTickAccess<Block> getBlockTicks() {
+		throw new UnsupportedOperationException();
+	}
+
+	public LevelTickAccess<Fluid> getFluidTicks() {
+		throw new UnsupportedOperationException();
+	}
+
+	public LevelData getLevelData() {
+		throw new UnsupportedOperationException();
+	}
+
+	public DifficultyInstance getCurrentDifficultyAt(BlockPos pPos) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Nullable
+	public MinecraftServer getServer() {
+		return null;
+	}
+
+	public ChunkSource getChunkSource() {
+		throw new UnsupportedOperationException();
+	}
+
+	public RandomSource getRandom() {
+		throw new UnsupportedOperationException();
+	}
+
+	public void playSound(
+			@Nullable Player pPlayer,
+			BlockPos pPos,
+			SoundEvent pSound,
+			SoundSource pSource,
+			float pVolume,
+			float pPitch) {
+		throw new UnsupportedOperationException();
+	}
+
+	public void addParticle(
+			ParticleOptions pParticleData,
+			double pX,
+			double pY,
+			double pZ,
+			double pXSpeed,
+			double pYSpeed,
+			double pZSpeed) {
+		throw new UnsupportedOperationException();
+	}
+
+	public void levelEvent(@Nullable Player pPlayer, int pType, BlockPos pPos, int pData) {
+		throw new UnsupportedOperationException();
+	}
+
+	public void gameEvent(GameEvent pEvent, Vec3 pPosition, GameEvent.Context pContext) {
+		throw new UnsupportedOperationException();
+	}
+
+	public long nextSubTickCount() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,76 @@
+package org.teacon.xkdeco.block;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.benchmark.BenchmarkLevel;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Neighbour updates and placement of an air duct next to other air ducts. Kiwi's slot data is not loaded here, so the
+ * slots of {@code kiwi/placement/slot/air_duct.yaml}, every side of an air duct, are put into the slot cache directly.
+ * Placement goes through the overload without a place context, building one needs a real level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AirDuctBlockBenchmark {
+	private static final BlockPos ORIGIN = BlockPos.ZERO;
+	private static final BlockPos NORTH = ORIGIN.north();
+
+	/**
+	 * Air ducts north and south of the origin, or also east and above it, which ends the neighbour scan early.
+	 */
+	@Param({"straight", "junction"})
+	public String neighbors;
+
+	private AirDuctBlock block;
+	private BenchmarkLevel level;
+	private BlockState state;
+	private BlockState neighborState;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.block = BenchmarkBootstrap.withStateIds(new AirDuctBlock(BlockBehaviour.Properties.of()));
+		for (var state : this.block.getStateDefinition().getPossibleStates()) {
+			AirDuctBlock.putSlotMask(state, (1 << 6) - 1);
+		}
+		AirDuctBlock.putSlotMask(Blocks.AIR.defaultBlockState(), 0);
+		var straight = this.block.defaultBlockState()
+				.setValue(XKDStateProperties.DIRECTION_PROPERTIES.get(Direction.NORTH.get3DDataValue()), true)
+				.setValue(XKDStateProperties.DIRECTION_PROPERTIES.get(Direction.SOUTH.get3DDataValue()), true);
+		this.level = new BenchmarkLevel()
+				.set(ORIGIN.north(), straight)
+				.set(ORIGIN, straight)
+				.set(ORIGIN.south(), straight);
+		if ("junction".equals(this.neighbors)) {
+			this.level.set(ORIGIN.east(), straight).set(ORIGIN.above(), straight);
+		}
+		this.state = straight;
+		this.neighborState = straight;
+	}
+
+	@Benchmark
+	public BlockState updateShape() {
+		return this.block.updateShape(this.state, Direction.NORTH, this.neighborState, this.level, ORIGIN, NORTH);
+	}
+
+	@Benchmark
+	public BlockState getStateForPlacement() {
+		return this.block.getStateForPlacement(this.level, ORIGIN, Direction.UP);
+	}
+}
@@ -0,0 +1,80 @@
+package org.teacon.xkdeco.block;
+
+import java.util.List;
+
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.benchmark.BenchmarkLevel;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Checks {@link AirDuctBlock#updateNetwork} on a headless level. Every side of an air duct is a slot, as in
+ * {@code kiwi/placement/slot/air_duct.yaml}, which is not loaded here. Run with {@code gradlew airDuctNetworkCheck}.
+ */
+public final class AirDuctNetworkCheck {
+	private static final int ALL_SIDES = (1 << 6) - 1;
+
+	private AirDuctNetworkCheck() {
+	}
+
+	public static void main(String[] args) {
+		BenchmarkBootstrap.bootstrap();
+		var block = BenchmarkBootstrap.withStateIds(new AirDuctBlock(BlockBehaviour.Properties.of()));
+		for (var state : block.getStateDefinition().getPossibleStates()) {
+			AirDuctBlock.putSlotMask(state, ALL_SIDES);
+		}
+		var unconnected = block.defaultBlockState();
+
+		// a straight run connects end to end, the ends run straight through their only neighbour
+		var level = new BenchmarkLevel();
+		for (int x = 0; x < 5; x++) {
+			level.set(new BlockPos(x, 0, 0), unconnected);
+		}
+		check(AirDuctBlock.updateNetwork(level, List.of(BlockPos.ZERO)) == 5, "all of a straight run changes");
+		for (int x = 0; x < 5; x++) {
+			checkConnections(level, new BlockPos(x, 0, 0), Direction.EAST, Direction.WEST);
+		}
+		check(level.writeFlags() == (Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE), "states are written without neighbour updates");
+		check(AirDuctBlock.updateNetwork(level, List.of(BlockPos.ZERO)) == 0, "a solved network is left alone");
+
+		// a corner connects its two neighbours, an isolated duct and ducts out of reach are left as they are
+		var corner = new BlockPos(1, 0, 0);
+		var isolated = new BlockPos(10, 0, 0);
+		var unreached = new BlockPos(0, 10, 0);
+		level = new BenchmarkLevel()
+				.set(BlockPos.ZERO, unconnected)
+				.set(corner, unconnected)
+				.set(corner.south(), unconnected)
+				.set(isolated, unconnected)
+				.set(unreached, unconnected)
+				.set(unreached.above(), unconnected);
+		check(AirDuctBlock.updateNetwork(level, List.of(corner, isolated)) == 3, "only the corner network changes");
+		checkConnections(level, BlockPos.ZERO, Direction.EAST, Direction.WEST);
+		checkConnections(level, corner, Direction.WEST, Direction.SOUTH);
+		checkConnections(level, corner.south(), Direction.NORTH, Direction.SOUTH);
+		check(level.getBlockState(isolated) == unconnected, "an isolated duct is left as it is");
+		check(level.getBlockState(unreached) == unconnected, "a duct out of reach is left as it is");
+	}
+
+	private static void checkConnections(BenchmarkLevel level, BlockPos pos, Direction... expected) {
+		var state = level.getBlockState(pos);
+		int mask = 0;
+		for (var direction : expected) {
+			mask |= 1 << direction.get3DDataValue();
+		}
+		for (int i = 0; i < 6; i++) {
+			boolean connected = state.getValue(XKDStateProperties.DIRECTION_PROPERTIES.get(i));
+			check(connected == ((mask & (1 << i)) != 0), pos.toShortString() + " " + Direction.from3DDataValue(i) + " is " + connected);
+		}
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			throw new IllegalStateException("Air duct network check failed: " + message);
+		}
+	}
+}
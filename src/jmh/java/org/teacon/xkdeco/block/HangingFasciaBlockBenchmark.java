@@ -0,0 +1,62 @@
+package org.teacon.xkdeco.block;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBlockGetter;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+
+/**
+ * The states come from a stand-alone state definition with the fascia properties, as the block itself needs Kiwi.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HangingFasciaBlockBenchmark {
+	private static final BlockPos ORIGIN = BlockPos.ZERO;
+
+	/**
+	 * Where the supporting block is: on the preferred side, on the other side, or nowhere.
+	 */
+	@Param({"preferred", "opposite", "none"})
+	public String support;
+
+	private BenchmarkBlockGetter level;
+	private BlockState state;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.state = new StateDefinition.Builder<Block, BlockState>(Blocks.STONE)
+				.add(HangingFasciaBlock.SIDE, HangingFasciaBlock.AXIS)
+				.create(Block::defaultBlockState, BlockState::new)
+				.any()
+				.setValue(HangingFasciaBlock.AXIS, Direction.Axis.X);
+		this.level = new BenchmarkBlockGetter();
+		switch (this.support) {
+			case "preferred" -> this.level.set(ORIGIN.west(), Blocks.STONE.defaultBlockState());
+			case "opposite" -> this.level.set(ORIGIN.east(), Blocks.STONE.defaultBlockState());
+			default -> {
+			}
+		}
+	}
+
+	@Benchmark
+	public BlockState getSideAt() {
+		return HangingFasciaBlock.getSideAt(this.state, this.level, ORIGIN, Direction.EAST);
+	}
+}
@@ -0,0 +1,59 @@
+package org.teacon.xkdeco.block;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.benchmark.BenchmarkLevel;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.WallBlock;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Side resolution of a mimic wall surrounded by vanilla walls, with either nothing or a full block above it, through
+ * {@link MimicWallBlock#updateShape}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MimicWallBlockBenchmark {
+	private static final BlockPos ORIGIN = BlockPos.ZERO;
+
+	@Param({"false", "true"})
+	public boolean blockAbove;
+
+	private MimicWallBlock block;
+	private BenchmarkLevel level;
+	private BlockState state;
+	private BlockState neighborState;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.block = BenchmarkBootstrap.withStateIds(new MimicWallBlock((WallBlock) Blocks.COBBLESTONE_WALL));
+		this.level = new BenchmarkLevel();
+		for (var direction : Direction.Plane.HORIZONTAL) {
+			this.level.set(ORIGIN.relative(direction), Blocks.STONE_BRICK_WALL.defaultBlockState());
+		}
+		if (this.blockAbove) {
+			this.level.set(ORIGIN.above(), Blocks.STONE.defaultBlockState());
+		}
+		this.state = this.block.defaultBlockState();
+		this.neighborState = this.level.getBlockState(ORIGIN.north());
+	}
+
+	@Benchmark
+	public BlockState updateShape() {
+		return this.block.updateShape(this.state, Direction.NORTH, this.neighborState, this.level, ORIGIN, ORIGIN.north());
+	}
+}
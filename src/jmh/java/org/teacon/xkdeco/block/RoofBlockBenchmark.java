@@ -0,0 +1,80 @@
+package org.teacon.xkdeco.block;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.util.RoofUtil;
+import org.teacon.xkdeco.util.StateShapeTable;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.HorizontalDirectionalBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * Compares the roof shape lookup before and after shapes were resolved once per state: parsing the roof properties on
+ * every call, as {@link RoofBlock#getShape} used to, against the {@link StateShapeTable} that is now the whole body of
+ * {@code getShape}. Roof blocks get their properties from Kiwi and cannot be built here, so the states come from a
+ * stand-alone state definition with the same properties, registered with ids like a registered block's states.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoofBlockBenchmark {
+	// 4 facings * 2 halves * 3 variants * 3 shapes
+	private static final int STATE_COUNT = 72;
+
+	private List<BlockState> states;
+	private StateShapeTable shapes;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.states = new StateDefinition.Builder<Block, BlockState>(Blocks.STONE)
+				.add(HorizontalDirectionalBlock.FACING, XKDStateProperties.HALF, XKDStateProperties.ROOF_VARIANT, XKDStateProperties.ROOF_SHAPE)
+				.create(Block::defaultBlockState, BlockState::new)
+				.getPossibleStates();
+		if (this.states.size() != STATE_COUNT) {
+			throw new IllegalStateException("Unexpected roof state count: " + this.states.size());
+		}
+		BenchmarkBootstrap.withStateIds(this.states);
+		this.shapes = new StateShapeTable(this.states, RoofBlockBenchmark::parseShape);
+	}
+
+	private static VoxelShape parseShape(BlockState state) {
+		var facing = state.getValue(HorizontalDirectionalBlock.FACING);
+		var roofHalf = RoofUtil.RoofHalf.valueOf(state.getValue(XKDStateProperties.HALF).toUpperCase(Locale.ENGLISH));
+		var roofVariant = RoofUtil.RoofVariant.valueOf(state.getValue(XKDStateProperties.ROOF_VARIANT).toUpperCase(Locale.ENGLISH));
+		var roofShape = RoofUtil.RoofShape.valueOf(state.getValue(XKDStateProperties.ROOF_SHAPE).toUpperCase(Locale.ENGLISH));
+		return RoofUtil.getShape(roofShape, facing, roofHalf, roofVariant);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STATE_COUNT)
+	public void parseProperties(Blackhole blackhole) {
+		for (var state : this.states) {
+			blackhole.consume(parseShape(state));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STATE_COUNT)
+	public void getShape(Blackhole blackhole) {
+		for (var state : this.states) {
+			blackhole.consume(this.shapes.get(state));
+		}
+	}
+}
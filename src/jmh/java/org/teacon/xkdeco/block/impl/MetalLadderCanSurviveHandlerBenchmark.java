@@ -0,0 +1,63 @@
+package org.teacon.xkdeco.block.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.benchmark.BenchmarkLevel;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.LadderBlock;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Survival check of the bottom ladder of a free-standing column, anchored by the wall behind it, by a block on top of
+ * the column, or not at all. The check only reads direct neighbors, so the column height should not show in the cost.
+ * Vanilla ladders stand in for metal ladders, the handler only looks at the facing and at {@code #minecraft:climbable}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetalLadderCanSurviveHandlerBenchmark {
+	private static final BlockPos ORIGIN = BlockPos.ZERO;
+
+	@Param({"1", "8", "32"})
+	public int height;
+
+	@Param({"wall", "top", "none"})
+	public String anchor;
+
+	private final MetalLadderCanSurviveHandler handler = new MetalLadderCanSurviveHandler();
+	private BenchmarkLevel level;
+	private BlockState state;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.state = Blocks.LADDER.defaultBlockState().setValue(LadderBlock.FACING, Direction.NORTH);
+		this.level = new BenchmarkLevel();
+		for (int i = 0; i < this.height; i++) {
+			this.level.set(ORIGIN.above(i), this.state);
+		}
+		switch (this.anchor) {
+			case "wall" -> this.level.set(ORIGIN.south(), Blocks.STONE.defaultBlockState());
+			case "top" -> this.level.set(ORIGIN.above(this.height), Blocks.STONE.defaultBlockState());
+			default -> {
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean canSurvive() {
+		return this.handler.canSurvive(this.state, this.level, ORIGIN);
+	}
+}
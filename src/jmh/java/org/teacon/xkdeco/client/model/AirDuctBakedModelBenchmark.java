@@ -0,0 +1,87 @@
+package org.teacon.xkdeco.client.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.block.AirDuctBlock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.block.model.ItemTransforms;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.SimpleBakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Quad lookup for every air duct state and cull face, as done by the chunk mesher.
+ * The part models are stand-ins with one quad per face, the cost does not depend on their content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AirDuctBakedModelBenchmark {
+	// 64 states * (6 cull faces + unculled)
+	private static final int LOOKUP_COUNT = 64 * 7;
+	private static final Direction[] CULL_FACES = {
+			Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST, null};
+
+	private AirDuctBakedModel model;
+	private List<BlockState> states;
+	private final RandomSource randomSource = RandomSource.create(42L);
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.states = new AirDuctBlock(BlockBehaviour.Properties.of()).getStateDefinition().getPossibleStates();
+		this.model = new AirDuctBakedModel(parts(3), parts(12), parts(6), part());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LOOKUP_COUNT)
+	public void getQuads(Blackhole blackhole) {
+		for (var state : this.states) {
+			for (var direction : CULL_FACES) {
+				blackhole.consume(this.model.getQuads(state, direction, this.randomSource));
+			}
+		}
+	}
+
+	private static List<BakedModel> parts(int count) {
+		return Collections.nCopies(count, part());
+	}
+
+	@SuppressWarnings("DataFlowIssue")
+	private static BakedModel part() {
+		Map<Direction, List<BakedQuad>> culled = Maps.newEnumMap(Direction.class);
+		for (var direction : Direction.values()) {
+			culled.put(direction, List.of(new BakedQuad(new int[32], -1, direction, null, true)));
+		}
+		return new SimpleBakedModel(
+				ImmutableList.of(new BakedQuad(new int[32], -1, Direction.UP, null, true)),
+				culled,
+				true,
+				true,
+				true,
+				null,
+				ItemTransforms.NO_TRANSFORMS,
+				ItemOverrides.EMPTY);
+	}
+}
@@ -0,0 +1,88 @@
+package org.teacon.xkdeco.init;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+import org.teacon.xkdeco.block.MimicWallBlock;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+
+/**
+ * Measures adding the mimic walls to the block tags on a reload, for a tag map the size of a large modpack's. The
+ * baseline is what the reload used to do: copy the whole tag map, scan the block registry for mimic walls, then append
+ * them. Only the vanilla registry is bootstrapped here, so the baseline's scan understates a modded registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MimicWallsLoaderBenchmark {
+	private static final int TAGS_PER_MOD = 10;
+	private static final int MIMIC_WALLS = 100;
+
+	@Param({"200", "2000"})
+	public int mods;
+
+	private Map<ResourceLocation, Collection<Holder<Block>>> tags;
+	private Collection<Holder<Block>> vanillaWalls;
+	private List<Holder<Block>> mimicWalls;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.tags = Maps.newHashMap();
+		var stone = List.<Holder<Block>>of(Blocks.STONE.builtInRegistryHolder());
+		for (int mod = 0; mod < this.mods; mod++) {
+			for (int tag = 0; tag < TAGS_PER_MOD; tag++) {
+				this.tags.put(new ResourceLocation("mod" + mod, "tag" + tag), stone);
+			}
+		}
+		this.vanillaWalls = List.of(Blocks.COBBLESTONE_WALL.builtInRegistryHolder(), Blocks.STONE_BRICK_WALL.builtInRegistryHolder());
+		this.tags.put(BlockTags.WALLS.location(), this.vanillaWalls);
+		this.mimicWalls = Lists.newArrayListWithCapacity(MIMIC_WALLS);
+		for (int i = 0; i < MIMIC_WALLS; i++) {
+			this.mimicWalls.add(Blocks.COBBLESTONE_WALL.builtInRegistryHolder());
+		}
+	}
+
+	@Benchmark
+	public Object copyAndScan() {
+		var copy = Maps.newHashMap(this.tags);
+		var walls = Lists.<Holder<Block>>newArrayList();
+		for (var holder : BuiltInRegistries.BLOCK.asHolderIdMap()) {
+			if (holder.value() instanceof MimicWallBlock) {
+				walls.add(holder);
+			}
+		}
+		walls.addAll(this.mimicWalls);
+		MimicWallsLoader.appendToWalls(copy, walls);
+		return copy;
+	}
+
+	@Benchmark
+	public Object appendInPlace() {
+		MimicWallsLoader.appendToWalls(this.tags, this.mimicWalls);
+		var walls = this.tags.get(BlockTags.WALLS.location());
+		// undo the append, so every call starts from the same tags
+		this.tags.put(BlockTags.WALLS.location(), this.vanillaWalls);
+		return walls;
+	}
+}
@@ -0,0 +1,44 @@
+package org.teacon.xkdeco.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MathUtilBenchmark {
+	@Param({"block", "post", "slab", "stairs"})
+	public String shapeName;
+
+	private VoxelShape shape;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.shape = switch (this.shapeName) {
+			case "block" -> Shapes.block();
+			case "post" -> Block.box(4, 0, 4, 12, 16, 12);
+			case "slab" -> Block.box(0, 0, 0, 16, 8, 16);
+			case "stairs" -> Shapes.or(Block.box(0, 0, 0, 16, 8, 16), Block.box(0, 8, 8, 16, 16, 16));
+			default -> throw new IllegalArgumentException(this.shapeName);
+		};
+	}
+
+	@Benchmark
+	public boolean isIsotropicHorizontally() {
+		return MathUtil.isIsotropicHorizontally(this.shape);
+	}
+}
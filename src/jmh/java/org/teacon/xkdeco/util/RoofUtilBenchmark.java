@@ -0,0 +1,40 @@
+package org.teacon.xkdeco.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.teacon.xkdeco.benchmark.BenchmarkBootstrap;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoofUtilBenchmark {
+	@Param({"STRAIGHT", "INNER", "OUTER"})
+	public RoofUtil.RoofShape shape;
+	@Param({"NORTH", "EAST"})
+	public Direction facing;
+	@Param({"LOWER", "UPPER"})
+	public RoofUtil.RoofHalf half;
+	@Param({"NORMAL", "SLOW", "STEEP"})
+	public RoofUtil.RoofVariant variant;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@Benchmark
+	public VoxelShape getShape() {
+		return RoofUtil.getShape(this.shape, this.facing, this.half, this.variant);
+	}
+}
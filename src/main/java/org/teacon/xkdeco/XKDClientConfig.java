@@ -0,0 +1,32 @@
+package org.teacon.xkdeco;
+
+import snownee.kiwi.config.KiwiConfig;
+
+@KiwiConfig(type = KiwiConfig.ConfigType.CLIENT)
+public final class XKDClientConfig {
+	@KiwiConfig.Comment("Render mimic walls with the legacy block entity renderer instead of baking them into the chunk mesh")
+	public static boolean mimicWallBlockEntityRenderer = false;
+
+	@KiwiConfig.Comment("Distance in blocks beyond which item projectors draw a flat camera-facing image of their item")
+	@KiwiConfig.Range(min = 0, max = 1024)
+	public static int projectorImpostorDistance = 48;
+
+	@KiwiConfig.Comment("Distance in blocks beyond which item projectors are not drawn at all")
+	@KiwiConfig.Range(min = 0, max = 1024)
+	public static int projectorCullDistance = 160;
+
+	@KiwiConfig.Comment("Distance in blocks within which the legacy mimic wall block entity renderer draws")
+	@KiwiConfig.Range(min = 0, max = 1024)
+	public static int mimicWallViewDistance = 64;
+
+	@KiwiConfig.Comment("Distance in blocks within which item displays draw their item")
+	@KiwiConfig.Range(min = 0, max = 1024)
+	public static int itemDisplayViewDistance = 64;
+
+	@KiwiConfig.Comment("Distance in blocks within which block displays draw blocks that are not part of the chunk mesh")
+	@KiwiConfig.Range(min = 0, max = 1024)
+	public static int blockDisplayViewDistance = 64;
+
+	@KiwiConfig.Comment("Skip drawing the contents of block entities that are buried in solid blocks")
+	public static boolean cullOccludedBlockEntities = true;
+}
@@ -0,0 +1,24 @@
+package org.teacon.xkdeco;
+
+import java.util.List;
+
+import snownee.kiwi.config.KiwiConfig;
+
+@KiwiConfig
+public final class XKDCommonConfig {
+	@KiwiConfig.Comment({
+			"Namespaces (e.g. \"quark\") or block ids (e.g. \"quark:myalite_wall\") of walls that should get a mimic wall",
+			"Walls are looked up when XKDeco registers its blocks, so walls of mods loading after XKDeco are reported as missing",
+			"Mimic walls are registered blocks, so this must be the same on the server and on every client"})
+	public static List<String> mimicWallIncludes = List.of("minecraft");
+
+	@KiwiConfig.Comment({
+			"Namespaces (e.g. \"quark\") or block ids (e.g. \"minecraft:mud_brick_wall\") of included walls that should not get a mimic wall",
+			"Mimic walls are registered blocks, so this must be the same on the server and on every client"})
+	public static List<String> mimicWallExcludes = List.of();
+
+	@KiwiConfig.Comment({
+			"Give every mimic wall a block entity, like older versions did",
+			"Only needed for the legacy mimic wall renderer, existing block entities are dropped when this is off"})
+	public static boolean mimicWallBlockEntity = false;
+}
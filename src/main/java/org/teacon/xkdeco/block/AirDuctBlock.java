@@ -2,12 +2,14 @@ package org.teacon.xkdeco.block;
 
 import static org.teacon.xkdeco.block.XKDStateProperties.DIRECTION_PROPERTIES;
 
-import java.util.List;
+import java.util.Arrays;
 
 import org.jetbrains.annotations.Nullable;
 
-import com.google.common.collect.Lists;
-
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.InteractionHand;
@@ -15,9 +17,11 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.Mirror;
 import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.SimpleWaterloggedBlock;
@@ -32,6 +36,12 @@ import snownee.kiwi.util.Util;
 @SuppressWarnings("deprecation")
 @NotNullByDefault
 public class AirDuctBlock extends Block implements SimpleWaterloggedBlock {
+	private static final int SLOT_MASK_COMPUTED = 1 << 6;
+	/**
+	 * Air duct slot masks indexed by {@link Block#getId}. Filled lazily; concurrent writers only ever store the same value.
+	 */
+	private static volatile byte[] slotMasks = new byte[0];
+	private static final ThreadLocal<BlockPos.MutableBlockPos> NEIGHBOR_POS = ThreadLocal.withInitial(BlockPos.MutableBlockPos::new);
 
 	public AirDuctBlock(Properties pProperties) {
 		super(pProperties);
@@ -92,27 +102,26 @@ public class AirDuctBlock extends Block implements SimpleWaterloggedBlock {
 	@Nullable
 	@Override
 	public BlockState getStateForPlacement(BlockPlaceContext pContext) {
-		Level level = pContext.getLevel();
-		BlockPos pos = pContext.getClickedPos();
-		BlockPos.MutableBlockPos mutable = pos.mutable();
-		List<Direction> neighbors = Lists.newArrayList();
+		return this.getStateForPlacement(pContext.getLevel(), pContext.getClickedPos(), pContext.getClickedFace());
+	}
+
+	/**
+	 * Placement without a {@link BlockPlaceContext}: only the neighbours and the clicked face decide the state.
+	 */
+	BlockState getStateForPlacement(BlockGetter level, BlockPos pos, Direction clickedFace) {
+		BlockPos.MutableBlockPos mutable = NEIGHBOR_POS.get();
+		int mask = 0;
 		for (Direction direction : Util.DIRECTIONS) {
 			BlockState neighborState = level.getBlockState(mutable.setWithOffset(pos, direction));
 			if (isAirDuctSlot(neighborState, direction.getOpposite())) {
-				neighbors.add(direction);
+				mask |= 1 << direction.get3DDataValue();
 			}
 		}
-		BlockState blockState = defaultBlockState();
-		if (neighbors.size() < 2) {
-			Direction face = neighbors.isEmpty() ? pContext.getClickedFace() : neighbors.get(0);
-			return blockState.setValue(DIRECTION_PROPERTIES.get(face.get3DDataValue()), true)
-					.setValue(DIRECTION_PROPERTIES.get(face.getOpposite().get3DDataValue()), true);
-		} else {
-			for (Direction direction : neighbors) {
-				blockState = blockState.setValue(DIRECTION_PROPERTIES.get(direction.get3DDataValue()), true);
-			}
-			return blockState;
+		if (Integer.bitCount(mask) < 2) {
+			Direction face = mask == 0 ? clickedFace : Direction.from3DDataValue(Integer.numberOfTrailingZeros(mask));
+			mask = (1 << face.get3DDataValue()) | (1 << face.getOpposite().get3DDataValue());
 		}
+		return withConnections(defaultBlockState(), mask);
 	}
 
 	@Override
@@ -126,30 +135,164 @@ public class AirDuctBlock extends Block implements SimpleWaterloggedBlock {
 		if (!isAirDuctSlot(pNeighborState, pDirection.getOpposite())) {
 			return blockState;
 		}
-		BlockPos.MutableBlockPos mutable = pos.mutable();
-		List<Direction> neighbors = Lists.newArrayListWithExpectedSize(2);
+		BlockPos.MutableBlockPos mutable = NEIGHBOR_POS.get();
+		Direction theOtherDirection = null;
 		for (Direction direction : Util.DIRECTIONS) {
 			if (direction == pDirection) {
 				continue;
 			}
 			BlockState neighborState = level.getBlockState(mutable.setWithOffset(pos, direction));
 			if (isAirDuctSlot(neighborState, direction.getOpposite())) {
-				neighbors.add(direction);
-				if (neighbors.size() >= 2) {
+				if (theOtherDirection != null) {
 					return blockState.setValue(DIRECTION_PROPERTIES.get(pDirection.get3DDataValue()), true);
 				}
+				theOtherDirection = direction;
 			}
 		}
-		Direction theOtherDirection = neighbors.isEmpty() ? pDirection.getOpposite() : neighbors.get(0);
-		for (Direction direction : Util.DIRECTIONS) {
-			blockState = blockState.setValue(
-					DIRECTION_PROPERTIES.get(direction.get3DDataValue()),
-					direction == pDirection || direction == theOtherDirection);
+		if (theOtherDirection == null) {
+			theOtherDirection = pDirection.getOpposite();
+		}
+		return withConnections(blockState, (1 << pDirection.get3DDataValue()) | (1 << theOtherDirection.get3DDataValue()));
+	}
+
+	/**
+	 * Sets every direction property of the state, one bit per {@link Direction#get3DDataValue()}.
+	 */
+	private static BlockState withConnections(BlockState blockState, int mask) {
+		for (int i = 0; i < 6; i++) {
+			blockState = blockState.setValue(DIRECTION_PROPERTIES.get(i), (mask & (1 << i)) != 0);
+		}
+		return blockState;
+	}
+
+	/**
+	 * Resolves the connections of every air duct connected to the given positions in one pass, reading each block once,
+	 * and writes the changed states without neighbor updates so that pasting a long duct run does not cascade through
+	 * {@link #updateShape}. Ducts with two or more connected sides connect to exactly those sides, ducts with one
+	 * run straight through it, and isolated ducts are left as they are.
+	 *
+	 * @return the number of ducts whose state changed
+	 */
+	public static int updateNetwork(LevelAccessor level, Iterable<BlockPos> positions) {
+		Long2ObjectOpenHashMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+		LongOpenHashSet visited = new LongOpenHashSet();
+		LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+		LongArrayList network = new LongArrayList();
+		BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+		for (BlockPos pos : positions) {
+			long key = pos.asLong();
+			if (getCachedState(level, states, mutable, key).getBlock() instanceof AirDuctBlock && visited.add(key)) {
+				queue.enqueue(key);
+			}
+		}
+		while (!queue.isEmpty()) {
+			long key = queue.dequeueLong();
+			network.add(key);
+			for (Direction direction : Util.DIRECTIONS) {
+				long neighbor = BlockPos.offset(key, direction);
+				if (!visited.contains(neighbor) &&
+						getCachedState(level, states, mutable, neighbor).getBlock() instanceof AirDuctBlock) {
+					visited.add(neighbor);
+					queue.enqueue(neighbor);
+				}
+			}
+		}
+		int changed = 0;
+		for (int i = 0; i < network.size(); i++) {
+			long key = network.getLong(i);
+			BlockState blockState = states.get(key);
+			AirDuctBlock block = (AirDuctBlock) blockState.getBlock();
+			int mask = 0;
+			for (Direction direction : Util.DIRECTIONS) {
+				BlockState neighborState = getCachedState(level, states, mutable, BlockPos.offset(key, direction));
+				if (block.isAirDuctSlot(neighborState, direction.getOpposite())) {
+					mask |= 1 << direction.get3DDataValue();
+				}
+			}
+			if (mask == 0) {
+				continue;
+			}
+			if (Integer.bitCount(mask) == 1) {
+				mask |= 1 << Direction.from3DDataValue(Integer.numberOfTrailingZeros(mask)).getOpposite().get3DDataValue();
+			}
+			BlockState newState = withConnections(blockState, mask);
+			if (newState != blockState) {
+				level.setBlock(mutable.set(key), newState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+				++changed;
+			}
+		}
+		return changed;
+	}
+
+	private static BlockState getCachedState(
+			LevelAccessor level,
+			Long2ObjectOpenHashMap<BlockState> states,
+			BlockPos.MutableBlockPos mutable,
+			long key) {
+		BlockState blockState = states.get(key);
+		if (blockState == null) {
+			mutable.set(key);
+			// do not load chunks while walking a network that crosses the loaded area
+			blockState = level.hasChunkAt(mutable) ? level.getBlockState(mutable) : Blocks.VOID_AIR.defaultBlockState();
+			states.put(key, blockState);
 		}
 		return blockState;
 	}
 
 	public boolean isAirDuctSlot(BlockState blockState, Direction side) {
-		return PlaceSlot.find(blockState, side, "*xkdeco.air_duct").isPresent();
+		return (getSlotMask(blockState) & (1 << side.get3DDataValue())) != 0;
+	}
+
+	/**
+	 * Returns the sides of the given state that carry an air duct slot, one bit per {@link Direction#get3DDataValue()}.
+	 */
+	static int getSlotMask(BlockState blockState) {
+		int id = Block.getId(blockState);
+		if (id < 0) {
+			return computeSlotMask(blockState);
+		}
+		byte[] masks = slotMasks(id);
+		int mask = masks[id];
+		if ((mask & SLOT_MASK_COMPUTED) == 0) {
+			mask = computeSlotMask(blockState) | SLOT_MASK_COMPUTED;
+			masks[id] = (byte) mask;
+		}
+		return mask & ~SLOT_MASK_COMPUTED;
+	}
+
+	/**
+	 * Sets the slot mask of a state until the cache is cleared, for code that runs without Kiwi's slot data.
+	 */
+	static void putSlotMask(BlockState blockState, int mask) {
+		int id = Block.getId(blockState);
+		slotMasks(id)[id] = (byte) (mask | SLOT_MASK_COMPUTED);
+	}
+
+	private static byte[] slotMasks(int id) {
+		byte[] masks = slotMasks;
+		if (id >= masks.length) {
+			masks = Arrays.copyOf(masks, Math.max(id + 1, Block.BLOCK_STATE_REGISTRY.size()));
+			slotMasks = masks;
+		}
+		return masks;
+	}
+
+	private static int computeSlotMask(BlockState blockState) {
+		int mask = 0;
+		for (Direction direction : Util.DIRECTIONS) {
+			if (PlaceSlot.find(blockState, direction, "*xkdeco.air_duct").isPresent()) {
+				mask |= 1 << direction.get3DDataValue();
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Drops the cached slot masks. Slot definitions are read by Kiwi from mod assets under {@code kiwi/placement/slot},
+	 * which data pack reloads leave alone, but a slot may target a block tag, so which states carry a slot changes
+	 * whenever tags are bound again. That is why this is called when tags are updated.
+	 */
+	public static void clearSlotCache() {
+		slotMasks = new byte[0];
 	}
 }
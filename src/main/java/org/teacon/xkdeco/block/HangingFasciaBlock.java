@@ -1,6 +1,5 @@
 package org.teacon.xkdeco.block;
 
-import java.util.List;
 import java.util.Locale;
 
 import org.jetbrains.annotations.Nullable;
@@ -25,6 +24,7 @@ import snownee.kiwi.util.NotNullByDefault;
 public class HangingFasciaBlock extends BasicBlock {
 	public static final EnumProperty<Side> SIDE = EnumProperty.create("side", Side.class);
 	public static final EnumProperty<Direction.Axis> AXIS = BlockStateProperties.HORIZONTAL_AXIS;
+	private static final ThreadLocal<BlockPos.MutableBlockPos> NEIGHBOR_POS = ThreadLocal.withInitial(BlockPos.MutableBlockPos::new);
 
 	public HangingFasciaBlock(BlockBehaviour.Properties properties) {
 		super(properties);
@@ -72,9 +72,10 @@ public class HangingFasciaBlock extends BasicBlock {
 	}
 
 	public static BlockState getSideAt(BlockState state, BlockGetter level, BlockPos pos, Direction preferredSide) {
-		for (Direction side : List.of(preferredSide, preferredSide.getOpposite())) {
-			BlockPos neighborPos = pos.relative(side.getOpposite());
-			BlockState neighbor = level.getBlockState(neighborPos);
+		BlockPos.MutableBlockPos neighborPos = NEIGHBOR_POS.get();
+		Direction side = preferredSide;
+		for (int i = 0; i < 2; i++, side = side.getOpposite()) {
+			BlockState neighbor = level.getBlockState(neighborPos.setWithOffset(pos, side.getOpposite()));
 			if (neighbor.isFaceSturdy(level, neighborPos, side, SupportType.RIGID)) {
 				return state.setValue(SIDE, side.getAxisDirection() == Direction.AxisDirection.NEGATIVE ? Side.POSITIVE : Side.NEGATIVE);
 			}
@@ -1,7 +1,5 @@
 package org.teacon.xkdeco.block;
 
-import static org.teacon.xkdeco.util.MathUtil.TAU;
-
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.teacon.xkdeco.blockentity.ItemDisplayBlockEntity;
@@ -27,8 +25,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.SimpleWaterloggedBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -144,27 +140,6 @@ public final class ItemDisplayBlock extends BaseEntityBlock implements SimpleWat
 		return InteractionResult.SUCCESS;
 	}
 
-	@Override
-	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(
-			@NotNull Level pLevel,
-			@NotNull BlockState pState,
-			@NotNull BlockEntityType<T> pBlockEntityType) {
-		return (level, pos, blockState, blockEntity) -> {
-			if (blockEntity instanceof ItemDisplayBlockEntity itemDisplayBlockEntity) {
-				var spin = itemDisplayBlockEntity.getSpin();
-				if (itemDisplayBlockEntity.getBlockState().getValue(ItemDisplayBlock.POWERED)) {
-					spin = (float) (Math.round(spin / (TAU / 8)) * (TAU / 8));
-				} else {
-					spin += 0.05f;
-					if (spin >= TAU) {
-						spin -= TAU;
-					}
-				}
-				itemDisplayBlockEntity.setSpin(spin);
-			}
-		};
-	}
-
 	@Override
 	protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> pBuilder) {
 		pBuilder.add(POWERED);
@@ -2,8 +2,14 @@ package org.teacon.xkdeco.block;
 
 import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
+import org.teacon.xkdeco.XKDClientConfig;
+import org.teacon.xkdeco.XKDCommonConfig;
 import org.teacon.xkdeco.blockentity.MimicWallBlockEntity;
 
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.core.BlockPos;
@@ -14,14 +20,18 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.WallBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.Property;
 import net.minecraft.world.level.block.state.properties.WallSide;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.shapes.BooleanOp;
@@ -35,12 +45,35 @@ public final class MimicWallBlock extends WallBlock implements EntityBlock {
 	private static final VoxelShape SOUTH_TEST = Block.box(7, 0, 7, 9, 16, 16);
 	private static final VoxelShape WEST_TEST = Block.box(0, 0, 7, 9, 16, 9);
 	private static final VoxelShape EAST_TEST = Block.box(7, 0, 7, 16, 16, 9);
+	private static final Direction[] SIDES = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+	private static final VoxelShape[] SIDE_TESTS = {NORTH_TEST, EAST_TEST, SOUTH_TEST, WEST_TEST};
+	private static final int EMPTY_ABOVE_LOW_SIDES = computeLowSides(Shapes.empty());
+	private static final int BLOCK_ABOVE_LOW_SIDES = computeLowSides(Shapes.block());
+	/**
+	 * Keyed on the identity of the down face of the block above. Face shapes are cached by the shape they come from,
+	 * which is cached per block state, so a handful of entries covers most walls. Copied on write, so reads need no lock.
+	 */
+	private static volatile Reference2ByteOpenHashMap<VoxelShape> lowSidesCache = newLowSidesCache(Reference2ByteMaps.emptyMap());
 	public static final String MIMIC_WALL_PREFIX = "mimic/";
 
 	public static String toMimicId(ResourceLocation original) {
 		return MIMIC_WALL_PREFIX + original.getNamespace() + "/" + original.getPath();
 	}
 
+	/**
+	 * Returns the default state of a delegate wall with the given side copied from the mimic wall and the post removed.
+	 */
+	public static <T extends Comparable<T>> BlockState toDelegateState(BlockState source, Block target, Property<T> property) {
+		var state = target.defaultBlockState();
+		if (state.hasProperty(BlockStateProperties.UP)) {
+			state = state.setValue(BlockStateProperties.UP, false);
+		}
+		if (state.hasProperty(property)) {
+			state = state.setValue(property, source.getValue(property));
+		}
+		return state;
+	}
+
 	private final WallBlock wall;
 
 	public MimicWallBlock(WallBlock wallDelegate) {
@@ -62,28 +95,77 @@ public final class MimicWallBlock extends WallBlock implements EntityBlock {
 		return Optional.empty();
 	}
 
-	private WallSide makeWallState(boolean connectedTo, VoxelShape aboveShape, VoxelShape connectedToShape) {
+	private static WallSide makeWallState(boolean connectedTo, int lowSides, int side) {
 		if (!connectedTo) {
 			return WallSide.NONE;
 		}
-		if (Shapes.joinIsNotEmpty(connectedToShape, aboveShape, BooleanOp.ONLY_FIRST)) {
-			return WallSide.LOW;
+		return (lowSides & (1 << side)) != 0 ? WallSide.LOW : WallSide.TALL;
+	}
+
+	/**
+	 * Bit {@code i} is set when side {@code i} (north, east, south, west) of a wall is low under the given down face.
+	 */
+	private static int getLowSides(VoxelShape aboveShape) {
+		if (aboveShape.isEmpty()) {
+			return EMPTY_ABOVE_LOW_SIDES;
 		}
-		return WallSide.TALL;
+		if (aboveShape == Shapes.block()) {
+			return BLOCK_ABOVE_LOW_SIDES;
+		}
+		int lowSides = lowSidesCache.getByte(aboveShape);
+		return lowSides >= 0 ? lowSides : cacheLowSides(aboveShape);
+	}
+
+	private static synchronized int cacheLowSides(VoxelShape aboveShape) {
+		var cache = newLowSidesCache(lowSidesCache);
+		int lowSides = computeLowSides(aboveShape);
+		cache.put(aboveShape, (byte) lowSides);
+		lowSidesCache = cache;
+		return lowSides;
+	}
+
+	private static Reference2ByteOpenHashMap<VoxelShape> newLowSidesCache(Reference2ByteMap<VoxelShape> entries) {
+		var cache = new Reference2ByteOpenHashMap<>(entries);
+		cache.defaultReturnValue((byte) -1);
+		return cache;
+	}
+
+	private static int computeLowSides(VoxelShape aboveShape) {
+		int lowSides = 0;
+		for (int i = 0; i < 4; i++) {
+			if (Shapes.joinIsNotEmpty(SIDE_TESTS[i], aboveShape, BooleanOp.ONLY_FIRST)) {
+				lowSides |= 1 << i;
+			}
+		}
+		return lowSides;
+	}
+
+	/**
+	 * Reads the walls this wall connects to, in north, east, south, west order, with air where there is none.
+	 * Both the wall sides and the block entity are updated from the same snapshot.
+	 */
+	public Block[] getNeighborWalls(BlockGetter level, BlockPos pos) {
+		var mutable = new BlockPos.MutableBlockPos();
+		var walls = new Block[4];
+		for (int i = 0; i < 4; i++) {
+			walls[i] = this.connectsTo(level.getBlockState(mutable.setWithOffset(pos, SIDES[i]))).orElse(Blocks.AIR);
+		}
+		return walls;
 	}
 
 	private BlockState updateSides(BlockPos pos, VoxelShape aboveShape, BlockState blockState, LevelAccessor level) {
-		var northWall = this.connectsTo(level.getBlockState(pos.north()));
-		var eastWall = this.connectsTo(level.getBlockState(pos.east()));
-		var southWall = this.connectsTo(level.getBlockState(pos.south()));
-		var westWall = this.connectsTo(level.getBlockState(pos.west()));
-		return blockState.setValue(NORTH_WALL, this.makeWallState(northWall.isPresent(), aboveShape, NORTH_TEST)).setValue(
+		return this.updateSides(aboveShape, blockState, this.getNeighborWalls(level, pos));
+	}
+
+	private BlockState updateSides(VoxelShape aboveShape, BlockState blockState, Block[] neighborWalls) {
+		var lowSides = getLowSides(aboveShape);
+		return blockState.setValue(NORTH_WALL, makeWallState(neighborWalls[0] != Blocks.AIR, lowSides, 0)).setValue(
 				EAST_WALL,
-				this.makeWallState(eastWall.isPresent(), aboveShape, EAST_TEST)).setValue(
+				makeWallState(neighborWalls[1] != Blocks.AIR, lowSides, 1)).setValue(
 				SOUTH_WALL,
-				this.makeWallState(southWall.isPresent(), aboveShape, SOUTH_TEST)).setValue(
+				makeWallState(neighborWalls[2] != Blocks.AIR, lowSides, 2)).setValue(
 				WEST_WALL,
-				this.makeWallState(westWall.isPresent(), aboveShape, WEST_TEST));
+				makeWallState(neighborWalls[3] != Blocks.AIR, lowSides, 3));
 	}
 
 	@Override
@@ -113,11 +195,12 @@ public final class MimicWallBlock extends WallBlock implements EntityBlock {
 			var aboveBlockState = pLevel.getBlockState(abovePos);
 			var aboveShape = aboveBlockState.getCollisionShape(pLevel, abovePos).getFaceShape(Direction.DOWN);
 
+			var neighborWalls = this.getNeighborWalls(pLevel, pCurrentPos);
 			if (pLevel.getBlockEntity(pCurrentPos) instanceof MimicWallBlockEntity blockEntity) {
-				blockEntity.updateBlocksFromLevel(this);
+				blockEntity.setNeighborWalls(neighborWalls);
 			}
 
-			return this.updateSides(pCurrentPos, aboveShape, pState, pLevel);
+			return this.updateSides(aboveShape, pState, neighborWalls);
 		}
 
 		return pState;
@@ -134,8 +217,10 @@ public final class MimicWallBlock extends WallBlock implements EntityBlock {
 	}
 
 	@Override
+	@Nullable
 	public BlockEntity newBlockEntity(BlockPos pPos, BlockState pState) {
-		return new MimicWallBlockEntity(pPos, pState);
+		// neighbours are read from the level when the chunk is meshed, the block entity is only kept for compatibility
+		return XKDCommonConfig.mimicWallBlockEntity ? new MimicWallBlockEntity(pPos, pState) : null;
 	}
 
 	@Override
@@ -146,6 +231,9 @@ public final class MimicWallBlock extends WallBlock implements EntityBlock {
 	@Override
 	@SuppressWarnings("deprecation")
 	public RenderShape getRenderShape(BlockState pState) {
-		return RenderShape.ENTITYBLOCK_ANIMATED;
+		if (XKDClientConfig.mimicWallBlockEntityRenderer && XKDCommonConfig.mimicWallBlockEntity) {
+			return RenderShape.ENTITYBLOCK_ANIMATED;
+		}
+		return RenderShape.MODEL;
 	}
 }
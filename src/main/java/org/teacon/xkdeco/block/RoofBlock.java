@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Locale;
 
 import org.teacon.xkdeco.util.RoofUtil;
+import org.teacon.xkdeco.util.StateShapeTable;
 
 import snownee.kiwi.customization.block.BasicBlock;
 import snownee.kiwi.customization.block.StringProperty;
@@ -190,13 +191,15 @@ public final class RoofBlock extends BasicBlock {
 			STEEP_ROOF_BASE_W, STEEP_ROOF_INNER_BASE_NW, Shapes.block(), STEEP_ROOF_OUTER_BASE_WS,
 			STEEP_ROOF_OUTER_BASE_NW, STEEP_ROOF_BASE_N, STEEP_ROOF_INNER_BASE_EN, Shapes.block());
 
+	private final StateShapeTable shapes;
+
 	public RoofBlock(Properties properties) {
 		super(properties);
+		// resolved once per state, getShape is hit by collision, raytrace and light occlusion
+		this.shapes = new StateShapeTable(this.stateDefinition.getPossibleStates(), RoofBlock::computeShape);
 	}
 
-	@Override
-	@SuppressWarnings("deprecation")
-	public VoxelShape getShape(BlockState pState, BlockGetter pLevel, BlockPos pPos, CollisionContext pContext) {
+	private static VoxelShape computeShape(BlockState pState) {
 		var facing = pState.getValue(HorizontalDirectionalBlock.FACING);
 		var roofHalf = RoofHalf.valueOf(pState.getValue(HALF).toUpperCase(Locale.ENGLISH));
 		var roofVariant = RoofUtil.RoofVariant.valueOf(pState.getValue(VARIANT).toUpperCase(Locale.ENGLISH));
@@ -204,6 +207,12 @@ public final class RoofBlock extends BasicBlock {
 		return RoofUtil.getShape(roofShape, facing, roofHalf, roofVariant);
 	}
 
+	@Override
+	@SuppressWarnings("deprecation")
+	public VoxelShape getShape(BlockState pState, BlockGetter pLevel, BlockPos pPos, CollisionContext pContext) {
+		return this.shapes.get(pState);
+	}
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public boolean isPathfindable(BlockState pState, BlockGetter pLevel, BlockPos pPos, PathComputationType pType) {
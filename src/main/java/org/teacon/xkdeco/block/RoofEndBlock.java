@@ -4,6 +4,7 @@ import java.util.Locale;
 
 import org.teacon.xkdeco.util.RoofUtil;
 import org.teacon.xkdeco.util.RoofUtil.RoofShape;
+import org.teacon.xkdeco.util.StateShapeTable;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
@@ -23,19 +24,27 @@ public final class RoofEndBlock extends HorizontalDirectionalBlock implements Si
 	private static final StringProperty VARIANT = XKDStateProperties.ROOF_VARIANT;
 	private static final StringProperty HALF = XKDStateProperties.HALF;
 
+	private final StateShapeTable shapes;
+
 	public RoofEndBlock(Properties properties) {
 		super(properties);
+		// resolved once per state, getShape is hit by collision, raytrace and light occlusion
+		this.shapes = new StateShapeTable(this.stateDefinition.getPossibleStates(), RoofEndBlock::computeShape);
 	}
 
-	@Override
-	@SuppressWarnings("deprecation")
-	public VoxelShape getShape(BlockState pState, BlockGetter pLevel, BlockPos pPos, CollisionContext pContext) {
+	private static VoxelShape computeShape(BlockState pState) {
 		var facing = pState.getValue(HorizontalDirectionalBlock.FACING);
 		var roofHalf = RoofUtil.RoofHalf.valueOf(pState.getValue(HALF).toUpperCase(Locale.ENGLISH));
 		var roofVariant = RoofUtil.RoofVariant.valueOf(pState.getValue(VARIANT).toUpperCase(Locale.ENGLISH));
 		return RoofUtil.getShape(RoofShape.STRAIGHT, facing, roofHalf, roofVariant);
 	}
 
+	@Override
+	@SuppressWarnings("deprecation")
+	public VoxelShape getShape(BlockState pState, BlockGetter pLevel, BlockPos pPos, CollisionContext pContext) {
+		return this.shapes.get(pState);
+	}
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public boolean isPathfindable(BlockState pState, BlockGetter pLevel, BlockPos pPos, PathComputationType pType) {
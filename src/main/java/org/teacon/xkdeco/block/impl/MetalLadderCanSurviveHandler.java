@@ -1,40 +1,150 @@
 package org.teacon.xkdeco.block.impl;
 
-import java.util.List;
-
+import snownee.kiwi.customization.block.KBlockSettings;
 import snownee.kiwi.customization.block.behavior.CanSurviveHandler;
 import org.teacon.xkdeco.util.CommonProxy;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LadderBlock;
 import net.minecraft.world.level.block.SupportType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.level.BlockEvent;
 
+/**
+ * A metal ladder survives on its own if it is attached to the wall behind it, or if the block above or below it is
+ * sturdy or a ladder facing the same way, so that survival checks only read direct neighbors.
+ * <p>
+ * Unlike vanilla-style ladders, a column of metal ladders does not hold itself up: it needs an anchor somewhere, the
+ * wall behind any of its ladders or a sturdy block at either end. When a change leaves a column without one, the whole
+ * segment is removed at once from the neighbor update, see {@link #removeUnanchoredColumns}.
+ */
 public class MetalLadderCanSurviveHandler implements CanSurviveHandler {
+	private static final ThreadLocal<BlockPos.MutableBlockPos> NEIGHBOR_POS = ThreadLocal.withInitial(BlockPos.MutableBlockPos::new);
+
 	@Override
 	public boolean isSensitiveSide(BlockState state, Direction side) {
-		return true;
+		return side.getAxis() == Direction.Axis.Y || side == state.getValue(LadderBlock.FACING).getOpposite();
 	}
 
 	@Override
 	public boolean canSurvive(BlockState state, LevelReader world, BlockPos pos) {
 		Direction direction = state.getValue(LadderBlock.FACING);
-		BlockPos.MutableBlockPos mutable = pos.mutable();
-		for (Direction d : List.of(direction.getOpposite(), Direction.UP, Direction.DOWN)) {
-			mutable.setWithOffset(pos, d);
+		BlockPos.MutableBlockPos mutable = NEIGHBOR_POS.get();
+		return isAttached(direction, world, pos, mutable) ||
+				isHeld(direction, Direction.UP, world, pos, mutable) ||
+				isHeld(direction, Direction.DOWN, world, pos, mutable);
+	}
+
+	/**
+	 * Removes every metal ladder column next to the updated block that is no longer anchored. Each column is walked once
+	 * to find its anchor, and an unanchored segment is removed as a whole. This runs before the shape updates of the
+	 * same change, which then find the column already gone.
+	 */
+	public static void removeUnanchoredColumns(BlockEvent.NeighborNotifyEvent event) {
+		if (!(event.getLevel() instanceof Level level) || level.isClientSide) {
+			return;
+		}
+		BlockPos.MutableBlockPos mutable = NEIGHBOR_POS.get();
+		for (Direction side : event.getNotifiedSides()) {
+			BlockPos pos = event.getPos().relative(side);
+			BlockState blockState = level.getBlockState(pos);
+			if (!blockState.hasProperty(LadderBlock.FACING)) {
+				continue;
+			}
+			KBlockSettings settings = KBlockSettings.of(blockState.getBlock());
+			if (settings == null || !(settings.canSurviveHandler instanceof MetalLadderCanSurviveHandler)) {
+				continue;
+			}
+			Direction direction = blockState.getValue(LadderBlock.FACING);
+			if (isAttached(direction, level, pos, mutable)) {
+				continue;
+			}
+			int top = findColumnEnd(direction, Direction.UP, level, pos, mutable);
+			if (top < 0) {
+				continue;
+			}
+			int bottom = findColumnEnd(direction, Direction.DOWN, level, pos, mutable);
+			if (bottom >= 0) {
+				removeSegment(level, pos, bottom, top);
+			}
+		}
+	}
+
+	private static boolean isHeld(
+			Direction direction,
+			Direction side,
+			LevelReader world,
+			BlockPos pos,
+			BlockPos.MutableBlockPos mutable) {
+		mutable.setWithOffset(pos, side);
+		BlockState neighborState = world.getBlockState(mutable);
+		return neighborState.isFaceSturdy(world, mutable, side.getOpposite(), SupportType.RIGID) ||
+				isColumnMember(neighborState, direction, world, mutable);
+	}
+
+	/**
+	 * Walks the column from {@code pos} towards {@code side}, up to the build height limit.
+	 *
+	 * @return -1 if the column is anchored in that direction, otherwise the number of ladders found
+	 */
+	private static int findColumnEnd(
+			Direction direction,
+			Direction side,
+			LevelReader world,
+			BlockPos pos,
+			BlockPos.MutableBlockPos mutable) {
+		int step = side.getStepY();
+		int count = 0;
+		for (int y = pos.getY() + step; !world.isOutsideBuildHeight(y); y += step) {
+			mutable.set(pos.getX(), y, pos.getZ());
 			BlockState neighborState = world.getBlockState(mutable);
-			if (neighborState.isFaceSturdy(world, mutable, d.getOpposite(), SupportType.RIGID)) {
-				return true;
+			if (neighborState.isFaceSturdy(world, mutable, side.getOpposite(), SupportType.RIGID)) {
+				return -1;
 			}
-			if (Direction.Plane.VERTICAL.test(d) &&
-					CommonProxy.isLadder(neighborState, world, pos) &&
-					neighborState.hasProperty(LadderBlock.FACING) &&
-					neighborState.getValue(LadderBlock.FACING) == direction) {
-				return true;
+			if (!isColumnMember(neighborState, direction, world, mutable)) {
+				break;
 			}
+			if (isAttached(direction, world, mutable, mutable)) {
+				return -1;
+			}
+			++count;
+		}
+		return count;
+	}
+
+	private static boolean isColumnMember(BlockState blockState, Direction direction, LevelReader world, BlockPos pos) {
+		return CommonProxy.isLadder(blockState, world, pos) &&
+				blockState.hasProperty(LadderBlock.FACING) &&
+				blockState.getValue(LadderBlock.FACING) == direction;
+	}
+
+	private static boolean isAttached(Direction direction, LevelReader world, BlockPos pos, BlockPos.MutableBlockPos mutable) {
+		mutable.setWithOffset(pos, direction.getOpposite());
+		return world.getBlockState(mutable).isFaceSturdy(world, mutable, direction, SupportType.RIGID);
+	}
+
+	/**
+	 * Removes the ladders of an unanchored segment, including the one at {@code pos}. The whole segment is removed
+	 * before any neighbor is notified, so the notifications find no ladder of the segment to re-evaluate.
+	 */
+	private static void removeSegment(Level level, BlockPos pos, int bottom, int top) {
+		BlockState[] removed = new BlockState[bottom + top + 1];
+		for (int i = 0; i < removed.length; i++) {
+			BlockPos ladderPos = pos.above(i - bottom);
+			BlockState blockState = level.getBlockState(ladderPos);
+			removed[i] = blockState;
+			Block.dropResources(blockState, level, ladderPos, level.getBlockEntity(ladderPos));
+			level.levelEvent(2001, ladderPos, Block.getId(blockState));
+			level.setBlock(ladderPos, blockState.getFluidState().createLegacyBlock(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+		}
+		for (int i = 0; i < removed.length; i++) {
+			BlockPos ladderPos = pos.above(i - bottom);
+			level.blockUpdated(ladderPos, removed[i].getBlock());
+			level.getBlockState(ladderPos).updateNeighbourShapes(level, ladderPos, Block.UPDATE_ALL);
 		}
-		return false;
 	}
 }
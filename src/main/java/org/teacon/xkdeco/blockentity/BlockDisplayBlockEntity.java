@@ -10,6 +10,7 @@ import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.teacon.xkdeco.init.XKDecoEntityTypes;
+import org.teacon.xkdeco.network.DisplaySync;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
@@ -18,19 +19,18 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
-import net.minecraft.network.Connection;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.Clearable;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.Property;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.client.model.data.ModelProperty;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
@@ -39,6 +39,7 @@ public final class BlockDisplayBlockEntity extends BlockEntity implements Cleara
 	private static final String BLOCKSTATE_NBT_KEY = "State";
 	private static final String SELECTED_PROPERTY_NBT_KEY = "Selected";
 	private static final BlockState EMPTY = Blocks.AIR.defaultBlockState();
+	public static final ModelProperty<BlockState> STORED_STATE = new ModelProperty<>();
 
 	@NotNull
 	private ItemStack item = ItemStack.EMPTY;
@@ -70,9 +71,9 @@ public final class BlockDisplayBlockEntity extends BlockEntity implements Cleara
 		}
 		var properties = blockState.getProperties();
 		selectedProperty = properties.isEmpty() ? null : properties.iterator().next();
-		var blockState = this.getBlockState();
 		this.setChanged();
-		Objects.requireNonNull(this.level).sendBlockUpdated(this.getBlockPos(), blockState, blockState, 0);
+		DisplaySync.queueBlockState(Objects.requireNonNull(this.level), this.getBlockPos(), blockState);
+		this.refreshModel();
 	}
 
 	@NotNull
@@ -83,7 +84,23 @@ public final class BlockDisplayBlockEntity extends BlockEntity implements Cleara
 	public void setStoredBlockState(@NotNull BlockState blockState) {
 		this.blockState = blockState;
 		this.setChanged();
-		Objects.requireNonNull(this.level).sendBlockUpdated(this.getBlockPos(), blockState, blockState, 0);
+		DisplaySync.queueBlockState(Objects.requireNonNull(this.level), this.getBlockPos(), blockState);
+		this.refreshModel();
+	}
+
+	/**
+	 * The stored block is part of the chunk mesh, so the section is only rebuilt when it changes.
+	 */
+	private void refreshModel() {
+		if (this.level != null && this.level.isClientSide) {
+			this.requestModelDataUpdate();
+			this.level.sendBlockUpdated(this.getBlockPos(), this.getBlockState(), this.getBlockState(), Block.UPDATE_IMMEDIATE);
+		}
+	}
+
+	@Override
+	public ModelData getModelData() {
+		return this.blockState.isAir() ? ModelData.EMPTY : ModelData.builder().with(STORED_STATE, this.blockState).build();
 	}
 
 	public Optional<Property<?>> getSelectedProperty() {
@@ -95,18 +112,6 @@ public final class BlockDisplayBlockEntity extends BlockEntity implements Cleara
 		this.setChanged();
 	}
 
-	@Override
-	public @NotNull Packet<ClientGamePacketListener> getUpdatePacket() {
-		return ClientboundBlockEntityDataPacket.create(
-				this,
-				be -> ((BlockDisplayBlockEntity) be).writeNbtPacket(null));
-	}
-
-	@Override
-	public void onDataPacket(Connection net, ClientboundBlockEntityDataPacket pkt) {
-		readNbtPacket(pkt.getTag());
-	}
-
 	@Override
 	public @NotNull CompoundTag getUpdateTag() {
 		return writeNbtPacket(null);
@@ -135,6 +140,10 @@ public final class BlockDisplayBlockEntity extends BlockEntity implements Cleara
 					.stream().filter(p -> p.getName().equals(propertyName)).findFirst()
 					.orElse(blockState.getProperties().stream().findFirst().orElse(null));
 		}
+		// loaded into a live level, e.g. placed with block entity data
+		if (this.level != null) {
+			DisplaySync.queueBlockState(this.level, this.getBlockPos(), this.blockState);
+		}
 	}
 
 	@Override
@@ -4,45 +4,55 @@
  */
 package org.teacon.xkdeco.blockentity;
 
+import static org.teacon.xkdeco.util.MathUtil.TAU;
+
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.teacon.xkdeco.XKDeco;
+import org.teacon.xkdeco.block.ItemDisplayBlock;
+import org.teacon.xkdeco.client.model.ItemDisplayBakedModel;
 import org.teacon.xkdeco.init.XKDecoEntityTypes;
+import org.teacon.xkdeco.network.DisplaySync;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.Connection;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import net.minecraft.world.Clearable;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.client.model.data.ModelProperty;
 import net.minecraftforge.registries.ForgeRegistries;
 
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
 public final class ItemDisplayBlockEntity extends BlockEntity implements Clearable {
 	public static final String ITEMSTACK_NBT_KEY = "Display";
-	private static final String SPIN_NBT_KEY = "Spin";
+	private static final float SPIN_SPEED = 0.05F;
+	public static final ModelProperty<ItemDisplayBakedModel.BakedItem> BAKED_ITEM = new ModelProperty<>();
 
 	private final boolean isProjector;
 	private ItemStack item = ItemStack.EMPTY;
-	private float spin = 0;
+	// spin is purely cosmetic, so it is derived on the client from the game time instead of being ticked and saved
+	private float spinBase;
+	private long spinStartTick;
+	private boolean spinFrozen;
 
 	public ItemDisplayBlockEntity(BlockPos blockPos, BlockState blockState) {
 		super(XKDecoEntityTypes.ITEM_DISPLAY.getOrCreate(), blockPos, blockState);
 		this.isProjector = blockState.is(Objects.requireNonNull(ForgeRegistries.BLOCKS.getValue(new ResourceLocation(
 				XKDeco.ID,
 				"item_projector"))));
+		this.spinBase = (float) ((Mth.getSeed(blockPos) & 0xFFFF) / 65536D * TAU);
 	}
 
 	@Override
@@ -67,30 +77,67 @@ public final class ItemDisplayBlockEntity extends BlockEntity implements Clearab
 		this.item = item;
 		if (update) {
 			this.setChanged();
-			var blockState = this.getBlockState();
-			Objects.requireNonNull(this.level).sendBlockUpdated(this.getBlockPos(), blockState, blockState, 0);
+			DisplaySync.queueItem(Objects.requireNonNull(this.level), this.getBlockPos(), item);
+			if (this.level.isClientSide && this.isStatic()) {
+				this.requestModelDataUpdate();
+				this.level.sendBlockUpdated(this.getBlockPos(), this.getBlockState(), this.getBlockState(), Block.UPDATE_IMMEDIATE);
+			}
 		}
 	}
 
-	public float getSpin() {
-		return spin;
+	/**
+	 * Powered displays do not spin, so their item can be part of the chunk mesh instead of being rendered every frame.
+	 * Projectors are excluded since their item is far larger than a chunk section allows for.
+	 */
+	public boolean isStatic() {
+		return !this.isProjector && this.getBlockState().getValue(ItemDisplayBlock.POWERED);
 	}
 
-	public void setSpin(float spin) {
-		this.spin = spin;
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setBlockState(BlockState pBlockState) {
+		super.setBlockState(pBlockState);
+		if (this.level != null && this.level.isClientSide) {
+			this.requestModelDataUpdate();
+		}
 	}
 
-	@Nullable
 	@Override
-	public Packet<ClientGamePacketListener> getUpdatePacket() {
-		return ClientboundBlockEntityDataPacket.create(
-				this,
-				be -> ((ItemDisplayBlockEntity) be).writeNbt(null));
+	public ModelData getModelData() {
+		if (!this.isStatic() || this.item.isEmpty()) {
+			return ModelData.EMPTY;
+		}
+		var bakedItem = ItemDisplayBakedModel.bakeItem(this);
+		return bakedItem == null ? ModelData.EMPTY : ModelData.builder().with(BAKED_ITEM, bakedItem).build();
 	}
 
-	@Override
-	public void onDataPacket(Connection net, ClientboundBlockEntityDataPacket pkt) {
-		readNbt(pkt.getTag());
+	/**
+	 * Spins at a constant speed from a per-position phase, and snaps to the nearest 45° while powered.
+	 */
+	public float getSpin(float partialTick) {
+		if (this.level == null) {
+			return 0;
+		}
+		var gameTime = this.level.getGameTime();
+		var powered = this.getBlockState().getValue(ItemDisplayBlock.POWERED);
+		if (powered != this.spinFrozen) {
+			var spin = this.computeSpin(gameTime, 0);
+			if (powered) {
+				this.spinBase = (float) (Math.round(spin / (TAU / 8)) * (TAU / 8));
+			} else {
+				this.spinBase = spin;
+				this.spinStartTick = gameTime;
+			}
+			this.spinFrozen = powered;
+		}
+		return this.computeSpin(gameTime, partialTick);
+	}
+
+	private float computeSpin(long gameTime, float partialTick) {
+		if (this.spinFrozen) {
+			return this.spinBase;
+		}
+		return (float) ((this.spinBase + SPIN_SPEED * (gameTime - this.spinStartTick + (double) partialTick)) % TAU);
 	}
 
 	@Override
@@ -107,6 +154,10 @@ public final class ItemDisplayBlockEntity extends BlockEntity implements Clearab
 	public void load(@NotNull CompoundTag pTag) {
 		super.load(pTag);
 		readNbt(pTag);
+		// loaded into a live level, e.g. placed with block entity data
+		if (this.level != null) {
+			DisplaySync.queueItem(this.level, this.getBlockPos(), this.item);
+		}
 	}
 
 	@Override
@@ -127,9 +178,6 @@ public final class ItemDisplayBlockEntity extends BlockEntity implements Clearab
 		if (tag.contains(ITEMSTACK_NBT_KEY)) {
 			this.item = ItemStack.of(tag.getCompound(ITEMSTACK_NBT_KEY));
 		}
-		if (tag.contains(SPIN_NBT_KEY)) {
-			this.spin = tag.getFloat(SPIN_NBT_KEY);
-		}
 	}
 
 	private CompoundTag writeNbt(@Nullable CompoundTag tag) {
@@ -137,7 +185,6 @@ public final class ItemDisplayBlockEntity extends BlockEntity implements Clearab
 			tag = new CompoundTag();
 		}
 		tag.put(ITEMSTACK_NBT_KEY, item.save(new CompoundTag()));
-		tag.putFloat(SPIN_NBT_KEY, spin);
 		return tag;
 	}
 }
@@ -1,26 +1,34 @@
 package org.teacon.xkdeco.blockentity;
 
-import java.util.Objects;
-
+import org.teacon.xkdeco.XKDCommonConfig;
 import org.teacon.xkdeco.block.MimicWallBlock;
 import org.teacon.xkdeco.init.XKDecoEntityTypes;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
-import net.minecraft.resources.ResourceLocation;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraftforge.registries.ForgeRegistries;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.client.model.data.ModelProperty;
+import net.minecraftforge.event.level.ChunkEvent;
 
 @Deprecated
 @MethodsReturnNonnullByDefault
 @ParametersAreNonnullByDefault
 public final class MimicWallBlockEntity extends BlockEntity {
+	public static final ModelProperty<Block> WALL_BLOCK = new ModelProperty<>();
+	public static final ModelProperty<Block> NORTH_BLOCK = new ModelProperty<>();
+	public static final ModelProperty<Block> EAST_BLOCK = new ModelProperty<>();
+	public static final ModelProperty<Block> SOUTH_BLOCK = new ModelProperty<>();
+	public static final ModelProperty<Block> WEST_BLOCK = new ModelProperty<>();
+
 	private Block eastBlock = Blocks.AIR;
 	private Block westBlock = Blocks.AIR;
 	private Block southBlock = Blocks.AIR;
@@ -30,70 +38,88 @@ public final class MimicWallBlockEntity extends BlockEntity {
 		super(XKDecoEntityTypes.MIMIC_WALL.getOrCreate(), pWorldPosition, pBlockState);
 	}
 
-	@Override
-	public ClientboundBlockEntityDataPacket getUpdatePacket() {
-		return ClientboundBlockEntityDataPacket.create(this);
+	public void updateBlocksFromLevel(MimicWallBlock wall) {
+		if (this.level != null) {
+			this.setNeighborWalls(wall.getNeighborWalls(this.level, this.getBlockPos()));
+		}
 	}
 
-	@Override
-	public CompoundTag getUpdateTag() {
-		return this.saveWithoutMetadata();
+	/**
+	 * @param walls the connected walls in north, east, south, west order, see {@link MimicWallBlock#getNeighborWalls}
+	 */
+	public void setNeighborWalls(Block[] walls) {
+		if (this.northBlock == walls[0] && this.eastBlock == walls[1] && this.southBlock == walls[2] && this.westBlock == walls[3]) {
+			return;
+		}
+		this.northBlock = walls[0];
+		this.eastBlock = walls[1];
+		this.southBlock = walls[2];
+		this.westBlock = walls[3];
+		if (this.level != null && this.level.isClientSide) {
+			this.requestModelDataUpdate();
+		}
 	}
 
-	public void updateBlocksFromLevel(MimicWallBlock wall) {
-		var pos = this.getBlockPos();
-		var block = this.getBlockState().getBlock();
-		if (this.level != null) {
-			var northWall = wall.connectsTo(this.level.getBlockState(pos.north()));
-			var eastWall = wall.connectsTo(this.level.getBlockState(pos.east()));
-			var southWall = wall.connectsTo(this.level.getBlockState(pos.south()));
-			var westWall = wall.connectsTo(this.level.getBlockState(pos.west()));
-			this.northBlock = northWall.orElse(Blocks.AIR);
-			this.eastBlock = eastWall.orElse(Blocks.AIR);
-			this.southBlock = southWall.orElse(Blocks.AIR);
-			this.westBlock = westWall.orElse(Blocks.AIR);
-			this.setChanged();
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setBlockState(BlockState pBlockState) {
+		super.setBlockState(pBlockState);
+		if (this.level != null && this.level.isClientSide && pBlockState.getBlock() instanceof MimicWallBlock wall) {
+			this.updateBlocksFromLevel(wall);
 		}
 	}
 
 	@Override
-	public void load(CompoundTag pTag) {
-		super.load(pTag);
-		this.northBlock = Objects.requireNonNullElse(
-				ForgeRegistries.BLOCKS.getValue(new ResourceLocation(pTag.getString("NorthBlockName"))),
-				Blocks.AIR);
-		this.eastBlock = Objects.requireNonNullElse(
-				ForgeRegistries.BLOCKS.getValue(new ResourceLocation(pTag.getString("EastBlockName"))),
-				Blocks.AIR);
-		this.southBlock = Objects.requireNonNullElse(
-				ForgeRegistries.BLOCKS.getValue(new ResourceLocation(pTag.getString("SouthBlockName"))),
-				Blocks.AIR);
-		this.westBlock = Objects.requireNonNullElse(
-				ForgeRegistries.BLOCKS.getValue(new ResourceLocation(pTag.getString("WestBlockName"))),
-				Blocks.AIR);
+	public ModelData getModelData() {
+		var builder = ModelData.builder()
+				.with(NORTH_BLOCK, this.northBlock)
+				.with(EAST_BLOCK, this.eastBlock)
+				.with(SOUTH_BLOCK, this.southBlock)
+				.with(WEST_BLOCK, this.westBlock);
 		if (this.getBlockState().getBlock() instanceof MimicWallBlock wall) {
-			this.updateBlocksFromLevel(wall);
+			builder.with(WALL_BLOCK, wall.getWallDelegate());
 		}
+		return builder.build();
 	}
 
+	/**
+	 * Neighbour walls are derived from the level and never saved nor synced, the client works them out on its own when
+	 * the block entity is loaded, and again when the chunk next to it is loaded, see {@link #refreshChunkEdges}.
+	 */
 	@Override
-	protected void saveAdditional(CompoundTag pTag) {
-		super.saveAdditional(pTag);
-		pTag.putString(
-				"NorthBlockName",
-				Objects.requireNonNullElse(ForgeRegistries.BLOCKS.getKey(this.northBlock), ForgeRegistries.BLOCKS.getKey(Blocks.AIR))
-						.toString());
-		pTag.putString(
-				"EastBlockName",
-				Objects.requireNonNullElse(ForgeRegistries.BLOCKS.getKey(this.eastBlock), ForgeRegistries.BLOCKS.getKey(Blocks.AIR))
-						.toString());
-		pTag.putString(
-				"SouthBlockName",
-				Objects.requireNonNullElse(ForgeRegistries.BLOCKS.getKey(this.southBlock), ForgeRegistries.BLOCKS.getKey(Blocks.AIR))
-						.toString());
-		pTag.putString(
-				"WestBlockName",
-				Objects.requireNonNullElse(ForgeRegistries.BLOCKS.getKey(this.westBlock), ForgeRegistries.BLOCKS.getKey(Blocks.AIR))
-						.toString());
+	public void onLoad() {
+		super.onLoad();
+		if (this.level != null && this.level.isClientSide && this.getBlockState().getBlock() instanceof MimicWallBlock wall) {
+			this.updateBlocksFromLevel(wall);
+		}
+	}
+
+	/**
+	 * Walls at a chunk edge see air on the other side until that chunk is loaded, so the walls along the edges of the
+	 * neighbouring chunks are refreshed when a chunk is loaded on the client.
+	 */
+	public static void refreshChunkEdges(ChunkEvent.Load event) {
+		if (!XKDCommonConfig.mimicWallBlockEntity ||
+				!(event.getLevel() instanceof Level level) ||
+				!level.isClientSide ||
+				!(event.getChunk() instanceof LevelChunk chunk)) {
+			return;
+		}
+		var chunkPos = chunk.getPos();
+		for (var direction : Direction.Plane.HORIZONTAL) {
+			var neighbor = level.getChunkSource().getChunkNow(
+					chunkPos.x + direction.getStepX(),
+					chunkPos.z + direction.getStepZ());
+			if (neighbor == null) {
+				continue;
+			}
+			for (var blockEntity : neighbor.getBlockEntities().values()) {
+				if (blockEntity instanceof MimicWallBlockEntity wallEntity &&
+						blockEntity.getBlockState().getBlock() instanceof MimicWallBlock wall &&
+						chunkPos.equals(new ChunkPos(blockEntity.getBlockPos().relative(direction.getOpposite())))) {
+					wallEntity.updateBlocksFromLevel(wall);
+				}
+			}
+		}
 	}
 }
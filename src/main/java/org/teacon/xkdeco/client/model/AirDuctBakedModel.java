@@ -1,17 +1,11 @@
 package org.teacon.xkdeco.client.model;
 
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.Nullable;
 import org.teacon.xkdeco.block.XKDStateProperties;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.ItemOverrides;
@@ -20,23 +14,66 @@ import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.core.Direction;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 
 @SuppressWarnings("deprecation")
 public class AirDuctBakedModel implements BakedModel {
-	private final Cache<Pair<BlockState, Direction>, List<BakedQuad>> cache = CacheBuilder.newBuilder().expireAfterAccess(
-			5,
-			TimeUnit.MINUTES).build();
+	private static final int CULL_FACES = 7;
 	private final List<BakedModel> straight;
 	private final List<BakedModel> corner;
 	private final List<BakedModel> cover;
 	private final BakedModel frame;
+	/**
+	 * Quads for every combination of the six direction properties, indexed by {@code mask * 7 + cullFace},
+	 * where bit {@code i} of the mask is {@code DIRECTION_PROPERTIES.get(i)} and cull face 6 stands for {@code null}.
+	 */
+	private final List<BakedQuad>[] quads;
 
+	@SuppressWarnings("unchecked")
 	public AirDuctBakedModel(List<BakedModel> straight, List<BakedModel> corner, List<BakedModel> cover, BakedModel frame) {
 		this.straight = straight;
 		this.corner = corner;
 		this.cover = cover;
 		this.frame = frame;
+		this.quads = new List[64 * CULL_FACES];
+		RandomSource randomSource = RandomSource.create(42L);
+		for (int mask = 0; mask < 64; mask++) {
+			for (int face = 0; face < CULL_FACES; face++) {
+				Direction direction = face == 6 ? null : Direction.from3DDataValue(face);
+				this.quads[mask * CULL_FACES + face] = bakeQuads(mask, direction, randomSource);
+			}
+		}
+	}
+
+	private List<BakedQuad> bakeQuads(int mask, @Nullable Direction direction, RandomSource randomSource) {
+		if (Integer.bitCount(mask) == 2) {
+			var direction1 = Direction.from3DDataValue(Integer.numberOfTrailingZeros(mask));
+			var direction2 = Direction.from3DDataValue(31 - Integer.numberOfLeadingZeros(mask));
+			if (direction1.getOpposite() == direction2) {
+				return straight.get(direction1.getAxis().ordinal()).getQuads(null, direction, randomSource);
+			} else {
+				int index;
+				if (direction1 == Direction.DOWN) {
+					index = 4 + direction2.getCounterClockWise().get2DDataValue();
+				} else if (direction1 == Direction.UP) {
+					index = 8 + direction2.getCounterClockWise().get2DDataValue();
+				} else if (direction1 == Direction.SOUTH && direction2 == Direction.EAST) {
+					index = 2;
+				} else if (direction1.get2DDataValue() < direction2.get2DDataValue()) {
+					index = direction1.getCounterClockWise().get2DDataValue();
+				} else {
+					index = direction2.getCounterClockWise().get2DDataValue();
+				}
+				return corner.get(index).getQuads(null, direction, randomSource);
+			}
+		}
+		var quads = ImmutableList.<BakedQuad>builder();
+		quads.addAll(frame.getQuads(null, direction, randomSource));
+		for (int i = 0; i < 6; i++) {
+			if ((mask & (1 << i)) == 0) {
+				quads.addAll(cover.get(i).getQuads(null, direction, randomSource));
+			}
+		}
+		return quads.build();
 	}
 
 	@Override
@@ -44,47 +81,13 @@ public class AirDuctBakedModel implements BakedModel {
 		if (blockState == null) {
 			return straight.get(0).getQuads(null, direction, randomSource);
 		}
-		try {
-			return cache.get(Pair.of(blockState.setValue(BlockStateProperties.WATERLOGGED, false), direction), () -> {
-				List<Direction> trueDirections = Lists.newArrayListWithExpectedSize(6);
-				for (int i = 0; i < 6; i++) {
-					if (blockState.getValue(XKDStateProperties.DIRECTION_PROPERTIES.get(i))) {
-						trueDirections.add(Direction.from3DDataValue(i));
-					}
-				}
-				if (trueDirections.size() == 2) {
-					var direction1 = trueDirections.get(0);
-					var direction2 = trueDirections.get(1);
-					if (direction1.getOpposite() == direction2) {
-						return straight.get(direction1.getAxis().ordinal()).getQuads(blockState, direction, randomSource);
-					} else {
-						int index;
-						if (direction1 == Direction.DOWN) {
-							index = 4 + direction2.getCounterClockWise().get2DDataValue();
-						} else if (direction1 == Direction.UP) {
-							index = 8 + direction2.getCounterClockWise().get2DDataValue();
-						} else if (direction1 == Direction.SOUTH && direction2 == Direction.EAST) {
-							index = 2;
-						} else if (direction1.get2DDataValue() < direction2.get2DDataValue()) {
-							index = direction1.getCounterClockWise().get2DDataValue();
-						} else {
-							index = direction2.getCounterClockWise().get2DDataValue();
-						}
-						return corner.get(index).getQuads(blockState, direction, randomSource);
-					}
-				}
-				var quads = ImmutableList.<BakedQuad>builder();
-				quads.addAll(frame.getQuads(blockState, direction, randomSource));
-				for (int i = 0; i < 6; i++) {
-					if (!blockState.getValue(XKDStateProperties.DIRECTION_PROPERTIES.get(i))) {
-						quads.addAll(cover.get(i).getQuads(blockState, direction, randomSource));
-					}
-				}
-				return quads.build();
-			});
-		} catch (ExecutionException e) {
-			throw new RuntimeException(e);
+		int mask = 0;
+		for (int i = 0; i < 6; i++) {
+			if (blockState.getValue(XKDStateProperties.DIRECTION_PROPERTIES.get(i))) {
+				mask |= 1 << i;
+			}
 		}
+		return quads[mask * CULL_FACES + (direction == null ? 6 : direction.get3DDataValue())];
 	}
 
 	@Override
@@ -0,0 +1,119 @@
+package org.teacon.xkdeco.client.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.teacon.xkdeco.blockentity.BlockDisplayBlockEntity;
+
+import com.google.common.collect.ImmutableList;
+import com.mojang.math.Transformation;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.ChunkRenderTypeSet;
+import net.minecraftforge.client.model.BakedModelWrapper;
+import net.minecraftforge.client.model.IQuadTransformer;
+import net.minecraftforge.client.model.QuadTransformers;
+import net.minecraftforge.client.model.data.ModelData;
+
+/**
+ * Adds the block stored in a block display to the chunk mesh, scaled and placed on top of the display like
+ * {@code BlockDisplayRenderer} used to draw it every frame.
+ */
+@SuppressWarnings("deprecation")
+public class BlockDisplayBakedModel extends BakedModelWrapper<BakedModel> {
+	private static final float BLOCK_SCALE = 0.99F;
+	private static final IQuadTransformer TRANSFORMER = QuadTransformers.applying(new Transformation(new Matrix4f()
+			.scale(BLOCK_SCALE)
+			.translate((1 - BLOCK_SCALE) / 2, 1, (1 - BLOCK_SCALE) / 2)));
+	private static final List<Direction> ALL_SIDES = Arrays.asList(
+			Direction.DOWN,
+			Direction.UP,
+			Direction.NORTH,
+			Direction.SOUTH,
+			Direction.WEST,
+			Direction.EAST,
+			null);
+
+	public BlockDisplayBakedModel(BakedModel originalModel) {
+		super(originalModel);
+	}
+
+	/**
+	 * Blocks rendered by a block entity renderer or an item renderer have nothing to put into a chunk mesh.
+	 */
+	public static boolean canBake(BlockState storedState) {
+		return !storedState.isAir() && storedState.getRenderShape() == RenderShape.MODEL;
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(
+			@Nullable BlockState state,
+			@Nullable Direction side,
+			RandomSource rand,
+			ModelData extraData,
+			@Nullable RenderType renderType) {
+		var quads = super.getQuads(state, side, rand, extraData, renderType);
+		var storedState = extraData.get(BlockDisplayBlockEntity.STORED_STATE);
+		// the stored block sits above the display, so none of its faces can be culled against the display's neighbours
+		if (side != null || storedState == null || !canBake(storedState)) {
+			return quads;
+		}
+		var storedModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(storedState);
+		if (renderType != null && !storedModel.getRenderTypes(storedState, rand, ModelData.EMPTY).contains(renderType)) {
+			return quads;
+		}
+		var builder = ImmutableList.<BakedQuad>builder().addAll(quads);
+		for (var direction : ALL_SIDES) {
+			for (var quad : storedModel.getQuads(storedState, direction, rand, ModelData.EMPTY, renderType)) {
+				// tinted quads keep their tint index, which the display's block color resolves for the stored block
+				builder.add(bake(TRANSFORMER.process(quad)));
+			}
+		}
+		return builder.build();
+	}
+
+	@Override
+	public ChunkRenderTypeSet getRenderTypes(BlockState state, RandomSource rand, ModelData data) {
+		var renderTypes = super.getRenderTypes(state, rand, data);
+		var storedState = data.get(BlockDisplayBlockEntity.STORED_STATE);
+		if (storedState == null || !canBake(storedState)) {
+			return renderTypes;
+		}
+		var storedModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(storedState);
+		return ChunkRenderTypeSet.union(renderTypes, storedModel.getRenderTypes(storedState, rand, ModelData.EMPTY));
+	}
+
+	/**
+	 * Turns off ambient occlusion, which would be sampled around the display rather than the block on top of it.
+	 */
+	private static BakedQuad bake(BakedQuad quad) {
+		return new BakedQuad(
+				quad.getVertices(),
+				quad.getTintIndex(),
+				quad.getDirection(),
+				quad.getSprite(),
+				quad.isShade(),
+				false);
+	}
+
+	/**
+	 * Colors tinted quads of the stored block the way that block would be colored at the display's position.
+	 */
+	public static int getColor(BlockState state, @Nullable BlockAndTintGetter level, @Nullable BlockPos pos, int tintIndex) {
+		if (level == null || pos == null || !(level.getBlockEntity(pos) instanceof BlockDisplayBlockEntity display)) {
+			return -1;
+		}
+		return Minecraft.getInstance().getBlockColors().getColor(display.getStoredBlockState(), level, pos, tintIndex);
+	}
+}
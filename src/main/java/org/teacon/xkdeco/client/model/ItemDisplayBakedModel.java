@@ -0,0 +1,229 @@
+package org.teacon.xkdeco.client.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.teacon.xkdeco.blockentity.ItemDisplayBlockEntity;
+import org.teacon.xkdeco.client.renderer.ItemDisplayRenderer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Axis;
+import com.mojang.math.Transformation;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.Sheets;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.ChunkRenderTypeSet;
+import net.minecraftforge.client.model.BakedModelWrapper;
+import net.minecraftforge.client.model.IQuadTransformer;
+import net.minecraftforge.client.model.QuadTransformers;
+import net.minecraftforge.client.model.data.ModelData;
+
+/**
+ * Adds the item of a static (powered) item display to the chunk mesh, posed the same way as
+ * {@link ItemDisplayRenderer} would draw it. The quads are baked on the main thread by {@link #bakeItem} when the
+ * block entity hands out its model data, so chunk meshing only has to read them.
+ */
+@SuppressWarnings("deprecation")
+public class ItemDisplayBakedModel extends BakedModelWrapper<BakedModel> {
+	private static final List<Direction> ALL_SIDES = Arrays.asList(
+			Direction.DOWN,
+			Direction.UP,
+			Direction.NORTH,
+			Direction.SOUTH,
+			Direction.WEST,
+			Direction.EAST,
+			null);
+	private static final int CACHE_SIZE = 64;
+	/**
+	 * Displays of the same item share their quads. Only touched on the main thread.
+	 */
+	private static final Map<Key, BakedItem> CACHE = new LinkedHashMap<>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, BakedItem> eldest) {
+			return this.size() > CACHE_SIZE;
+		}
+	};
+	/**
+	 * Displays holding baked quads, so that they can ask for new ones after a resource reload.
+	 */
+	private static final Set<ItemDisplayBlockEntity> BAKED_DISPLAYS = Collections.newSetFromMap(new WeakHashMap<>());
+
+	public ItemDisplayBakedModel(BakedModel originalModel) {
+		super(originalModel);
+	}
+
+	/**
+	 * Items that change every frame, glint or get tinted by an item color cannot be part of a chunk mesh.
+	 */
+	public static boolean canBake(ItemStack stack) {
+		if (stack.isEmpty() || stack.hasFoil()) {
+			return false;
+		}
+		var model = Minecraft.getInstance().getItemRenderer().getItemModelShaper().getItemModel(stack);
+		if (model == null || model.isCustomRenderer() || model.getOverrides() != ItemOverrides.EMPTY) {
+			return false;
+		}
+		var itemColors = Minecraft.getInstance().getItemColors();
+		return itemColors.getColor(stack, 0) == -1 && itemColors.getColor(stack, 1) == -1;
+	}
+
+	/**
+	 * Returns the quads of the displayed item, or null if it has to be drawn by the block entity renderer.
+	 * Must be called on the main thread.
+	 */
+	@Nullable
+	public static BakedItem bakeItem(ItemDisplayBlockEntity display) {
+		var stack = display.getItem();
+		if (!canBake(stack)) {
+			return null;
+		}
+		BAKED_DISPLAYS.add(display);
+		var spin = display.getSpin(0);
+		var amount = ItemDisplayRenderer.getRenderAmount(stack);
+		var key = new Key(stack.getItem(), stack.getTag(), amount, spin);
+		var bakedItem = CACHE.get(key);
+		if (bakedItem == null) {
+			bakedItem = getItemQuads(stack, amount, spin);
+			var tag = stack.getTag();
+			CACHE.put(new Key(stack.getItem(), tag == null ? null : tag.copy(), amount, spin), bakedItem);
+		}
+		return bakedItem;
+	}
+
+	/**
+	 * Drops the baked quads, which point at sprites of the old atlas, and has every display bake its item again.
+	 */
+	public static void onResourceManagerReload(ResourceManager pResourceManager) {
+		CACHE.clear();
+		BAKED_DISPLAYS.forEach(BlockEntity::requestModelDataUpdate);
+		BAKED_DISPLAYS.clear();
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(
+			@Nullable BlockState state,
+			@Nullable Direction side,
+			RandomSource rand,
+			ModelData extraData,
+			@Nullable RenderType renderType) {
+		var quads = super.getQuads(state, side, rand, extraData, renderType);
+		var bakedItem = extraData.get(ItemDisplayBlockEntity.BAKED_ITEM);
+		// the item floats above the display, so none of its faces can be culled against neighbours
+		if (side != null || bakedItem == null) {
+			return quads;
+		}
+		List<BakedQuad> itemQuads;
+		if (renderType == null) {
+			itemQuads = bakedItem.layers().values().stream().flatMap(List::stream).toList();
+		} else {
+			itemQuads = bakedItem.layers().getOrDefault(renderType, List.of());
+		}
+		if (itemQuads.isEmpty()) {
+			return quads;
+		}
+		return ImmutableList.<BakedQuad>builder().addAll(quads).addAll(itemQuads).build();
+	}
+
+	@Override
+	public ChunkRenderTypeSet getRenderTypes(BlockState state, RandomSource rand, ModelData data) {
+		var renderTypes = super.getRenderTypes(state, rand, data);
+		var bakedItem = data.get(ItemDisplayBlockEntity.BAKED_ITEM);
+		if (bakedItem == null) {
+			return renderTypes;
+		}
+		return ChunkRenderTypeSet.union(renderTypes, ChunkRenderTypeSet.of(bakedItem.layers().keySet()));
+	}
+
+	/**
+	 * Picks the chunk layer for one render pass of the item. Block items follow the layer of their block, since the
+	 * item render type cannot tell cutout from cutout mipped; other items map their item sheet back to a chunk layer.
+	 */
+	private static RenderType getChunkRenderType(ItemStack stack, BakedModel pass, RandomSource random) {
+		if (stack.getItem() instanceof BlockItem blockItem) {
+			var blockState = blockItem.getBlock().defaultBlockState();
+			var blockModel = Minecraft.getInstance().getBlockRenderer().getBlockModel(blockState);
+			var blockRenderTypes = blockModel.getRenderTypes(blockState, random, ModelData.EMPTY);
+			for (var renderType : List.of(RenderType.translucent(), RenderType.cutout(), RenderType.cutoutMipped())) {
+				if (blockRenderTypes.contains(renderType)) {
+					return renderType;
+				}
+			}
+			return RenderType.solid();
+		}
+		var itemRenderTypes = pass.getRenderTypes(stack, false);
+		if (itemRenderTypes.isEmpty() || itemRenderTypes.contains(Sheets.solidBlockSheet())) {
+			return RenderType.solid();
+		}
+		if (itemRenderTypes.contains(Sheets.cutoutBlockSheet())) {
+			return RenderType.cutout();
+		}
+		return RenderType.translucent();
+	}
+
+	private static BakedItem getItemQuads(ItemStack stack, int amount, float spin) {
+		var itemModel = Minecraft.getInstance().getItemRenderer().getItemModelShaper().getItemModel(stack);
+		var layers = new LinkedHashMap<RenderType, ImmutableList.Builder<BakedQuad>>();
+		var poseStack = new PoseStack();
+		poseStack.translate(0.5, 1 + 0.1F + ItemDisplayRenderer.getYOffset(false, itemModel), 0.5);
+		poseStack.mulPose(Axis.YP.rotation(spin));
+		var random = RandomSource.create();
+		ItemDisplayRenderer.poseCopies(
+				stack,
+				itemModel,
+				amount,
+				false,
+				new Random(),
+				poseStack,
+				() -> {
+					// same steps as ItemRenderer.render for the ground context
+					poseStack.pushPose();
+					var model = itemModel.applyTransform(ItemDisplayContext.GROUND, poseStack, false);
+					poseStack.translate(-0.5F, -0.5F, -0.5F);
+					IQuadTransformer transformer = QuadTransformers.applying(new Transformation(new Matrix4f(poseStack.last().pose())));
+					for (var pass : model.getRenderPasses(stack, true)) {
+						var quads = layers.computeIfAbsent(getChunkRenderType(stack, pass, random), $ -> ImmutableList.builder());
+						for (var direction : ALL_SIDES) {
+							random.setSeed(42L);
+							quads.addAll(transformer.process(pass.getQuads(null, direction, random)));
+						}
+					}
+					poseStack.popPose();
+				});
+		var builder = ImmutableMap.<RenderType, List<BakedQuad>>builder();
+		layers.forEach((renderType, quads) -> builder.put(renderType, quads.build()));
+		return new BakedItem(builder.build());
+	}
+
+	/**
+	 * The quads of a displayed item, by the chunk layer they are drawn in.
+	 */
+	public record BakedItem(Map<RenderType, List<BakedQuad>> layers) {
+	}
+
+	private record Key(Item item, @Nullable CompoundTag tag, int amount, float spin) {
+	}
+}
@@ -0,0 +1,173 @@
+package org.teacon.xkdeco.client.model;
+
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import org.teacon.xkdeco.block.MimicWallBlock;
+import org.teacon.xkdeco.blockentity.MimicWallBlockEntity;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockAndTintGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.WallBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.level.block.state.properties.WallSide;
+import net.minecraftforge.client.ChunkRenderTypeSet;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.client.model.data.ModelProperty;
+
+/**
+ * Bakes a mimic wall into the chunk mesh by stitching together the models of its delegate walls.
+ * The post uses the wall this block mimics, each connected side uses the neighbour wall found in the model data.
+ */
+@SuppressWarnings("deprecation")
+public class MimicWallBakedModel implements BakedModel {
+	private static final List<EnumProperty<WallSide>> SIDE_PROPERTIES = List.of(
+			WallBlock.NORTH_WALL,
+			WallBlock.EAST_WALL,
+			WallBlock.SOUTH_WALL,
+			WallBlock.WEST_WALL);
+	private static final List<ModelProperty<Block>> SIDE_DELEGATES = List.of(
+			MimicWallBlockEntity.NORTH_BLOCK,
+			MimicWallBlockEntity.EAST_BLOCK,
+			MimicWallBlockEntity.SOUTH_BLOCK,
+			MimicWallBlockEntity.WEST_BLOCK);
+	private final TextureAtlasSprite particle;
+
+	public MimicWallBakedModel(TextureAtlasSprite particle) {
+		this.particle = particle;
+	}
+
+	/**
+	 * Without a block entity the neighbour walls are read from the chunk region being meshed.
+	 */
+	@Override
+	public ModelData getModelData(BlockAndTintGetter level, BlockPos pos, BlockState state, ModelData modelData) {
+		if (modelData.has(MimicWallBlockEntity.NORTH_BLOCK) || !(state.getBlock() instanceof MimicWallBlock wall)) {
+			return modelData;
+		}
+		var neighborWalls = wall.getNeighborWalls(level, pos);
+		var builder = modelData.derive().with(MimicWallBlockEntity.WALL_BLOCK, wall.getWallDelegate());
+		for (int i = 0; i < 4; i++) {
+			builder.with(SIDE_DELEGATES.get(i), neighborWalls[i]);
+		}
+		return builder.build();
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(@Nullable BlockState blockState, @Nullable Direction direction, RandomSource randomSource) {
+		return getQuads(blockState, direction, randomSource, ModelData.EMPTY, null);
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(
+			@Nullable BlockState blockState,
+			@Nullable Direction direction,
+			RandomSource randomSource,
+			ModelData modelData,
+			@Nullable RenderType renderType) {
+		if (blockState == null || !(blockState.getBlock() instanceof MimicWallBlock wall)) {
+			return List.of();
+		}
+		var quads = ImmutableList.<BakedQuad>builder();
+		var postState = MimicWallBlock.toDelegateState(blockState, wall.getWallDelegate(), BlockStateProperties.UP);
+		addQuads(quads, postState, direction, randomSource, renderType);
+		for (int i = 0; i < 4; i++) {
+			var property = SIDE_PROPERTIES.get(i);
+			if (blockState.getValue(property) == WallSide.NONE) {
+				continue;
+			}
+			var delegate = modelData.get(SIDE_DELEGATES.get(i));
+			if (delegate == null || delegate == Blocks.AIR) {
+				delegate = wall.getWallDelegate();
+			}
+			addQuads(quads, MimicWallBlock.toDelegateState(blockState, delegate, property), direction, randomSource, renderType);
+		}
+		return quads.build();
+	}
+
+	private static void addQuads(
+			ImmutableList.Builder<BakedQuad> quads,
+			BlockState delegateState,
+			@Nullable Direction direction,
+			RandomSource randomSource,
+			@Nullable RenderType renderType) {
+		var model = Minecraft.getInstance().getBlockRenderer().getBlockModel(delegateState);
+		if (renderType == null || model.getRenderTypes(delegateState, randomSource, ModelData.EMPTY).contains(renderType)) {
+			quads.addAll(model.getQuads(delegateState, direction, randomSource, ModelData.EMPTY, renderType));
+		}
+	}
+
+	@Override
+	public ChunkRenderTypeSet getRenderTypes(BlockState blockState, RandomSource randomSource, ModelData modelData) {
+		if (!(blockState.getBlock() instanceof MimicWallBlock wall)) {
+			return ChunkRenderTypeSet.none();
+		}
+		var renderTypes = getRenderTypes(wall.getWallDelegate(), randomSource);
+		for (var key : SIDE_DELEGATES) {
+			var delegate = modelData.get(key);
+			if (delegate != null && delegate != Blocks.AIR) {
+				renderTypes = ChunkRenderTypeSet.union(renderTypes, getRenderTypes(delegate, randomSource));
+			}
+		}
+		return renderTypes;
+	}
+
+	private static ChunkRenderTypeSet getRenderTypes(Block delegate, RandomSource randomSource) {
+		var delegateState = delegate.defaultBlockState();
+		var model = Minecraft.getInstance().getBlockRenderer().getBlockModel(delegateState);
+		return model.getRenderTypes(delegateState, randomSource, ModelData.EMPTY);
+	}
+
+	@Override
+	public boolean useAmbientOcclusion() {
+		return true;
+	}
+
+	@Override
+	public boolean isGui3d() {
+		return true;
+	}
+
+	@Override
+	public boolean usesBlockLight() {
+		return true;
+	}
+
+	@Override
+	public boolean isCustomRenderer() {
+		return false;
+	}
+
+	@Override
+	public TextureAtlasSprite getParticleIcon() {
+		return particle;
+	}
+
+	@Override
+	public TextureAtlasSprite getParticleIcon(ModelData modelData) {
+		var wall = modelData.get(MimicWallBlockEntity.WALL_BLOCK);
+		if (wall == null) {
+			return particle;
+		}
+		return Minecraft.getInstance().getBlockRenderer().getBlockModel(wall.defaultBlockState()).getParticleIcon(ModelData.EMPTY);
+	}
+
+	@Override
+	public ItemOverrides getOverrides() {
+		return ItemOverrides.EMPTY;
+	}
+}
@@ -0,0 +1,118 @@
+package org.teacon.xkdeco.client.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import org.teacon.xkdeco.block.MimicWallBlock;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.color.item.ItemColor;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.block.model.ItemTransforms;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.RenderTypeHelper;
+import net.minecraftforge.client.model.data.ModelData;
+
+/**
+ * The item model of a mimic wall: the post of its delegate wall, baked once when models are baked. Tinted quads keep
+ * their tint index and are colored by {@link #getColor}.
+ */
+@SuppressWarnings("deprecation")
+public class MimicWallItemBakedModel implements BakedModel {
+	private static final List<Direction> ALL_SIDES = Arrays.asList(
+			Direction.DOWN,
+			Direction.UP,
+			Direction.NORTH,
+			Direction.SOUTH,
+			Direction.WEST,
+			Direction.EAST,
+			null);
+	private final List<List<BakedQuad>> quads;
+	private final ItemTransforms transforms;
+	private final TextureAtlasSprite particle;
+	private final RenderType chunkRenderType;
+
+	public MimicWallItemBakedModel(BlockState postState, BakedModel postModel, ItemTransforms transforms) {
+		var random = RandomSource.create();
+		var quads = ImmutableList.<List<BakedQuad>>builder();
+		for (var direction : ALL_SIDES) {
+			random.setSeed(42L);
+			quads.add(ImmutableList.copyOf(postModel.getQuads(postState, direction, random, ModelData.EMPTY, null)));
+		}
+		this.quads = quads.build();
+		this.transforms = transforms;
+		this.particle = postModel.getParticleIcon(ModelData.EMPTY);
+		// the item renderer draws all quads once per render type, so a single type that fits all of them is used
+		var renderTypes = postModel.getRenderTypes(postState, random, ModelData.EMPTY);
+		var chunkRenderType = RenderType.solid();
+		for (var renderType : RenderType.chunkBufferLayers()) {
+			if (renderTypes.contains(renderType)) {
+				chunkRenderType = renderType;
+			}
+		}
+		this.chunkRenderType = chunkRenderType;
+	}
+
+	/**
+	 * Colors the item like the item of its delegate block, which is how the delegate wall itself looks in hand.
+	 */
+	public static ItemColor getColor(MimicWallBlock wall) {
+		var delegateStack = new ItemStack(wall.getWallDelegate());
+		return (pStack, pTintIndex) -> Minecraft.getInstance().getItemColors().getColor(delegateStack, pTintIndex);
+	}
+
+	@Override
+	public List<BakedQuad> getQuads(@Nullable BlockState blockState, @Nullable Direction direction, RandomSource randomSource) {
+		return quads.get(direction == null ? 6 : direction.ordinal());
+	}
+
+	@Override
+	public List<RenderType> getRenderTypes(ItemStack itemStack, boolean fabulous) {
+		return List.of(RenderTypeHelper.getEntityRenderType(chunkRenderType, fabulous));
+	}
+
+	@Override
+	public boolean useAmbientOcclusion() {
+		return true;
+	}
+
+	@Override
+	public boolean isGui3d() {
+		return true;
+	}
+
+	@Override
+	public boolean usesBlockLight() {
+		return true;
+	}
+
+	@Override
+	public boolean isCustomRenderer() {
+		return false;
+	}
+
+	@Override
+	public TextureAtlasSprite getParticleIcon() {
+		return particle;
+	}
+
+	@Override
+	public ItemTransforms getTransforms() {
+		return transforms;
+	}
+
+	@Override
+	public ItemOverrides getOverrides() {
+		return ItemOverrides.EMPTY;
+	}
+}
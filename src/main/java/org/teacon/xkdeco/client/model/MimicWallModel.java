@@ -0,0 +1,36 @@
+package org.teacon.xkdeco.client.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.Material;
+import net.minecraft.client.resources.model.ModelBaker;
+import net.minecraft.client.resources.model.ModelState;
+import net.minecraft.client.resources.model.UnbakedModel;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.inventory.InventoryMenu;
+
+public class MimicWallModel implements UnbakedModel {
+	@Override
+	public Collection<ResourceLocation> getDependencies() {
+		return List.of();
+	}
+
+	@Override
+	public void resolveParents(Function<ResourceLocation, UnbakedModel> pResolver) {
+	}
+
+	@Override
+	public BakedModel bake(
+			ModelBaker pBaker,
+			Function<Material, TextureAtlasSprite> pSpriteGetter,
+			ModelState pState,
+			ResourceLocation pLocation) {
+		var particle = pSpriteGetter.apply(new Material(InventoryMenu.BLOCK_ATLAS, MissingTextureAtlasSprite.getLocation()));
+		return new MimicWallBakedModel(particle);
+	}
+}
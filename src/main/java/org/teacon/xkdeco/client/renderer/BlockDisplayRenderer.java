@@ -3,19 +3,23 @@ package org.teacon.xkdeco.client.renderer;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.teacon.xkdeco.XKDClientConfig;
 import org.teacon.xkdeco.blockentity.BlockDisplayBlockEntity;
+import org.teacon.xkdeco.client.model.BlockDisplayBakedModel;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.block.BlockRenderDispatcher;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
-import net.minecraft.world.level.LightLayer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.model.data.ModelData;
 
 @MethodsReturnNonnullByDefault
@@ -23,11 +27,24 @@ import net.minecraftforge.client.model.data.ModelData;
 public final class BlockDisplayRenderer implements BlockEntityRenderer<BlockDisplayBlockEntity> {
 	private final BlockRenderDispatcher blockRenderer;
 	private static final float BLOCK_SCALE = 0.99f;
+	private final BlockPos.MutableBlockPos lightPos = new BlockPos.MutableBlockPos();
 
 	public BlockDisplayRenderer(BlockEntityRendererProvider.Context context) {
 		blockRenderer = Minecraft.getInstance().getBlockRenderer();
 	}
 
+	@Override
+	public boolean shouldRender(BlockDisplayBlockEntity pBlockEntity, Vec3 pCameraPos) {
+		// blocks with a plain model are baked into the chunk mesh by BlockDisplayBakedModel
+		return !BlockDisplayBakedModel.canBake(pBlockEntity.getStoredBlockState()) &&
+				BlockEntityCulling.shouldRender(pBlockEntity, pCameraPos, this.getViewDistance(), BlockEntityCulling.TOP_FACE);
+	}
+
+	@Override
+	public int getViewDistance() {
+		return XKDClientConfig.blockDisplayViewDistance;
+	}
+
 	@Override
 	public void render(
 			BlockDisplayBlockEntity pBlockEntity,
@@ -41,11 +58,8 @@ public final class BlockDisplayRenderer implements BlockEntityRenderer<BlockDisp
 			return;
 		}
 
-		var pos = pBlockEntity.getBlockPos();
 		var level = Objects.requireNonNull(pBlockEntity.getLevel());
-		var packedLight = LightTexture.pack(
-				level.getBrightness(LightLayer.BLOCK, pos.above()),
-				level.getBrightness(LightLayer.SKY, pos.above()));
+		var packedLight = LevelRenderer.getLightColor(level, this.lightPos.setWithOffset(pBlockEntity.getBlockPos(), Direction.UP));
 
 		pPoseStack.pushPose();
 
@@ -0,0 +1,79 @@
+package org.teacon.xkdeco.client.renderer;
+
+import org.teacon.xkdeco.XKDClientConfig;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import net.minecraft.MethodsReturnNonnullByDefault;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
+import net.minecraftforge.event.TickEvent;
+
+/**
+ * Shared visibility checks of the block entity renderers, counting how many block entities each check rejected in the
+ * last frame. The counts are shown on the debug screen.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+public final class BlockEntityCulling {
+	public static final Direction[] NO_FACES = {};
+	public static final Direction[] TOP_FACE = {Direction.UP};
+	public static final Direction[] ALL_FACES = Direction.values();
+	private static final BlockPos.MutableBlockPos NEIGHBOR_POS = new BlockPos.MutableBlockPos();
+	private static int distanceCulled;
+	private static int occlusionCulled;
+	private static int lastDistanceCulled;
+	private static int lastOcclusionCulled;
+
+	private BlockEntityCulling() {
+	}
+
+	/**
+	 * Checks that the block entity is within the view distance, and that none of its pedestal faces, the faces its
+	 * contents are drawn behind, is against a solid block.
+	 */
+	public static boolean shouldRender(BlockEntity pBlockEntity, Vec3 pCameraPos, int pViewDistance, Direction[] pPedestalFaces) {
+		if (!Vec3.atCenterOf(pBlockEntity.getBlockPos()).closerThan(pCameraPos, pViewDistance)) {
+			++distanceCulled;
+			return false;
+		}
+		if (XKDClientConfig.cullOccludedBlockEntities && pPedestalFaces.length > 0 && isOccluded(pBlockEntity, pPedestalFaces)) {
+			++occlusionCulled;
+			return false;
+		}
+		return true;
+	}
+
+	private static boolean isOccluded(BlockEntity pBlockEntity, Direction[] pPedestalFaces) {
+		var level = pBlockEntity.getLevel();
+		if (level == null) {
+			return false;
+		}
+		for (var face : pPedestalFaces) {
+			NEIGHBOR_POS.setWithOffset(pBlockEntity.getBlockPos(), face);
+			if (!level.getBlockState(NEIGHBOR_POS).isSolidRender(level, NEIGHBOR_POS)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public static void onRenderTick(TickEvent.RenderTickEvent event) {
+		if (event.phase == TickEvent.Phase.START) {
+			lastDistanceCulled = distanceCulled;
+			lastOcclusionCulled = occlusionCulled;
+			distanceCulled = 0;
+			occlusionCulled = 0;
+		}
+	}
+
+	public static void addDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+		if (!Minecraft.getInstance().options.renderDebug) {
+			return;
+		}
+		event.getLeft().add("XKDeco culled BE: %d far, %d occluded".formatted(lastDistanceCulled, lastOcclusionCulled));
+	}
+}
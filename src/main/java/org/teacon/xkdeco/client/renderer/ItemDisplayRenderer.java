@@ -1,28 +1,36 @@
 package org.teacon.xkdeco.client.renderer;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.WeakHashMap;
 
 import org.jetbrains.annotations.NotNull;
-import org.teacon.xkdeco.block.ItemDisplayBlock;
+import org.jetbrains.annotations.Nullable;
+import org.teacon.xkdeco.XKDClientConfig;
 import org.teacon.xkdeco.blockentity.ItemDisplayBlockEntity;
+import org.teacon.xkdeco.client.model.ItemDisplayBakedModel;
 
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
 import net.minecraft.client.renderer.entity.ItemRenderer;
 import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.phys.Vec3;
 
 @MethodsReturnNonnullByDefault
@@ -30,6 +38,12 @@ import net.minecraft.world.phys.Vec3;
 public final class ItemDisplayRenderer implements BlockEntityRenderer<ItemDisplayBlockEntity> {
 	private final ItemRenderer itemRenderer;
 	private final Random random = new Random();
+	private final BlockPos.MutableBlockPos lightPos = new BlockPos.MutableBlockPos();
+	/**
+	 * Vertices of the displayed items recorded relative to the spinning pivot, so a frame only has to apply the spin.
+	 * Rebuilt whenever the item, the stack size bucket or the light changes, and dropped with the renderer on reload.
+	 */
+	private final Map<ItemDisplayBlockEntity, CachedItem> cache = new WeakHashMap<>();
 
 	public ItemDisplayRenderer(BlockEntityRendererProvider.Context context) {
 		this.itemRenderer = Minecraft.getInstance().getItemRenderer();
@@ -37,11 +51,23 @@ public final class ItemDisplayRenderer implements BlockEntityRenderer<ItemDispla
 
 	@Override
 	public boolean shouldRender(ItemDisplayBlockEntity pBlockEntity, Vec3 pCameraPos) {
-		return pBlockEntity.isProjector()
-				? Vec3.atCenterOf(pBlockEntity.getBlockPos()).closerThan(
-				pCameraPos,
-				Minecraft.getInstance().options.getEffectiveRenderDistance() * 16)
-				: BlockEntityRenderer.super.shouldRender(pBlockEntity, pCameraPos);
+		// powered displays are baked into the chunk mesh by ItemDisplayBakedModel
+		if (pBlockEntity.isStatic() && ItemDisplayBakedModel.canBake(pBlockEntity.getItem())) {
+			return false;
+		}
+		if (pBlockEntity.isProjector()) {
+			var maxDistance = Math.min(
+					XKDClientConfig.projectorCullDistance,
+					Minecraft.getInstance().options.getEffectiveRenderDistance() * 16);
+			// projected items are far bigger than the block they stand on, so they are never hidden by its neighbours
+			return BlockEntityCulling.shouldRender(pBlockEntity, pCameraPos, maxDistance, BlockEntityCulling.NO_FACES);
+		}
+		return BlockEntityCulling.shouldRender(pBlockEntity, pCameraPos, this.getViewDistance(), BlockEntityCulling.TOP_FACE);
+	}
+
+	@Override
+	public int getViewDistance() {
+		return XKDClientConfig.itemDisplayViewDistance;
 	}
 
 	@Override
@@ -59,75 +85,188 @@ public final class ItemDisplayRenderer implements BlockEntityRenderer<ItemDispla
 			return;
 		}
 
-		var speed = 1;
-		var pos = pBlockEntity.getBlockPos();
-		var spin = pBlockEntity.getSpin();
-		if (!pBlockEntity.getBlockState().getValue(ItemDisplayBlock.POWERED)) {
-			spin += pPartialTick / 20;
+		var spin = pBlockEntity.getSpin(pPartialTick);
+
+		var level = Objects.requireNonNull(pBlockEntity.getLevel());
+		var packedLight = LevelRenderer.getLightColor(level, this.lightPos.setWithOffset(pBlockEntity.getBlockPos(), Direction.UP));
+
+		if (pBlockEntity.isProjector() && this.renderImpostor(pBlockEntity, itemstack, pPoseStack, pBufferSource, packedLight)) {
+			return;
 		}
 
-		this.random.setSeed(itemstack.isEmpty() ? 187 : Item.getId(itemstack.getItem()) + itemstack.getDamageValue());
+		var amount = getRenderAmount(itemstack);
+
+		var cached = this.cache.get(pBlockEntity);
+		if (cached == null || !cached.matches(itemstack, amount, packedLight)) {
+			cached = this.bake(pBlockEntity, itemstack, amount, packedLight);
+			this.cache.put(pBlockEntity, cached);
+		}
 
 		pPoseStack.pushPose();
-		var bakedmodel = this.itemRenderer.getModel(itemstack, pBlockEntity.getLevel(), null, speed);
-		var gui3d = bakedmodel.isGui3d();
-		var amount = this.getRenderAmount(itemstack);
+		if (cached.mesh != null) {
+			pPoseStack.translate(0.5, 1 + 0.1F + cached.yOffset, 0.5);
+			pPoseStack.mulPose(Axis.YP.rotation(spin));
+			cached.mesh.replay(pPoseStack.last(), pBufferSource);
+		} else {
+			// models with overrides or custom renderers may change every frame, so they are not recorded
+			var bakedmodel = this.itemRenderer.getModel(itemstack, level, null, 1);
+			pPoseStack.translate(0.5, 1 + 0.1F + getYOffset(pBlockEntity.isProjector(), bakedmodel), 0.5);
+			pPoseStack.mulPose(Axis.YP.rotation(spin));
+			this.renderCopies(pBlockEntity, itemstack, bakedmodel, amount, packedLight, pPoseStack, pBufferSource);
+		}
+		pPoseStack.popPose();
+	}
+
+	/**
+	 * Draws a distant projector as a flat image of its item that always faces the camera.
+	 *
+	 * @return false if the projector is close enough for the full model, or the image is not rendered yet
+	 */
+	private boolean renderImpostor(
+			ItemDisplayBlockEntity pBlockEntity,
+			ItemStack pStack,
+			PoseStack pPoseStack,
+			MultiBufferSource pBufferSource,
+			int pPackedLight) {
+		var camera = Minecraft.getInstance().gameRenderer.getMainCamera();
+		var distance = XKDClientConfig.projectorImpostorDistance;
+		if (Vec3.atCenterOf(pBlockEntity.getBlockPos()).closerThan(camera.getPosition(), distance)) {
+			return false;
+		}
+		var renderType = ProjectorImpostors.INSTANCE.get(pStack);
+		if (renderType == null) {
+			return false;
+		}
+		var bakedmodel = this.itemRenderer.getModel(pStack, pBlockEntity.getLevel(), null, 1);
+		var yOffset = getYOffset(true, bakedmodel);
+		// the image shows the item as it is scaled in a gui slot, while the projector scales its ground pose 16 times
 		@SuppressWarnings("deprecation")
-		var modelScale = bakedmodel.getTransforms().getTransform(ItemDisplayContext.GROUND).scale.y();
-		pPoseStack.translate(0.5, 1 + 0.1F + 0.25 * modelScale * (pBlockEntity.isProjector() ? 24 : 1), 0.5);
-		pPoseStack.mulPose(Axis.YP.rotation(spin));
+		var transforms = bakedmodel.getTransforms();
+		var guiScale = transforms.getTransform(ItemDisplayContext.GUI).scale.y();
+		var halfSize = 8 * transforms.getTransform(ItemDisplayContext.GROUND).scale.y() / (guiScale == 0 ? 1 : guiScale);
+		pPoseStack.pushPose();
+		pPoseStack.translate(0.5, 1 + 0.1F + yOffset, 0.5);
+		pPoseStack.mulPose(camera.rotation());
+		var pose = pPoseStack.last();
+		var consumer = pBufferSource.getBuffer(renderType);
+		// with the camera rotation applied, -x points to the right of the screen and +y points up
+		impostorVertex(consumer, pose, halfSize, -halfSize, 0, 0, pPackedLight);
+		impostorVertex(consumer, pose, -halfSize, -halfSize, 1, 0, pPackedLight);
+		impostorVertex(consumer, pose, -halfSize, halfSize, 1, 1, pPackedLight);
+		impostorVertex(consumer, pose, halfSize, halfSize, 0, 1, pPackedLight);
+		pPoseStack.popPose();
+		return true;
+	}
 
-		if (pBlockEntity.isProjector()) {
+	private static void impostorVertex(
+			VertexConsumer pConsumer,
+			PoseStack.Pose pPose,
+			float pX,
+			float pY,
+			float pU,
+			float pV,
+			int pPackedLight) {
+		pConsumer.vertex(pPose.pose(), pX, pY, 0)
+				.color(255, 255, 255, 255)
+				.uv(pU, pV)
+				.overlayCoords(OverlayTexture.NO_OVERLAY)
+				.uv2(pPackedLight)
+				.normal(pPose.normal(), 0, 0, 1)
+				.endVertex();
+	}
+
+	private CachedItem bake(ItemDisplayBlockEntity pBlockEntity, ItemStack pStack, int pAmount, int pPackedLight) {
+		var bakedmodel = this.itemRenderer.getModel(pStack, pBlockEntity.getLevel(), null, 1);
+		var baseModel = this.itemRenderer.getItemModelShaper().getItemModel(pStack);
+		var yOffset = getYOffset(pBlockEntity.isProjector(), bakedmodel);
+		if (bakedmodel.isCustomRenderer() || baseModel != null && baseModel.getOverrides() != ItemOverrides.EMPTY) {
+			return new CachedItem(pStack.copy(), pAmount, pPackedLight, yOffset, null);
+		}
+		var mesh = new RecordedMesh();
+		this.renderCopies(pBlockEntity, pStack, bakedmodel, pAmount, pPackedLight, new PoseStack(), mesh);
+		return new CachedItem(pStack.copy(), pAmount, pPackedLight, yOffset, mesh);
+	}
+
+	public static float getYOffset(boolean pProjector, BakedModel pModel) {
+		@SuppressWarnings("deprecation")
+		var modelScale = pModel.getTransforms().getTransform(ItemDisplayContext.GROUND).scale.y();
+		return 0.25F * modelScale * (pProjector ? 24 : 1);
+	}
+
+	/**
+	 * Renders the stacked copies of the item, relative to the spinning pivot above the display.
+	 */
+	private void renderCopies(
+			ItemDisplayBlockEntity pBlockEntity,
+			ItemStack pStack,
+			BakedModel pModel,
+			int pAmount,
+			int pPackedLight,
+			PoseStack pPoseStack,
+			MultiBufferSource pBufferSource) {
+		poseCopies(pStack, pModel, pAmount, pBlockEntity.isProjector(), this.random, pPoseStack, () -> this.itemRenderer.render(
+				pStack,
+				ItemDisplayContext.GROUND,
+				false,
+				pPoseStack,
+				pBufferSource,
+				pPackedLight,
+				OverlayTexture.NO_OVERLAY,
+				pModel));
+	}
+
+	/**
+	 * Positions each stacked copy of the item in turn and runs the action for it.
+	 */
+	public static void poseCopies(
+			ItemStack pStack,
+			BakedModel pModel,
+			int pAmount,
+			boolean pProjector,
+			Random pRandom,
+			PoseStack pPoseStack,
+			Runnable pAction) {
+		pRandom.setSeed(Item.getId(pStack.getItem()) + pStack.getDamageValue());
+
+		var gui3d = pModel.isGui3d();
+		pPoseStack.pushPose();
+		if (pProjector) {
 			pPoseStack.scale(16, 16, 16);
 		}
 
 		if (!gui3d) {
 			pPoseStack.translate(
-					-0.0F * (float) (amount - 1) * 0.5F,
-					-0.0F * (float) (amount - 1) * 0.5F,
-					-0.09375F * (float) (amount - 1) * 0.5F);
+					-0.0F * (float) (pAmount - 1) * 0.5F,
+					-0.0F * (float) (pAmount - 1) * 0.5F,
+					-0.09375F * (float) (pAmount - 1) * 0.5F);
 		}
 
-
-		for (var k = 0; k < amount; ++k) {
+		for (var k = 0; k < pAmount; ++k) {
 			pPoseStack.pushPose();
 			if (k > 0) {
 				if (gui3d) {
 					pPoseStack.translate(
-							(this.random.nextFloat() * 2.0F - 1.0F) * 0.15F,
-							(this.random.nextFloat() * 2.0F - 1.0F) * 0.15F,
-							(this.random.nextFloat() * 2.0F - 1.0F) * 0.15F);
+							(pRandom.nextFloat() * 2.0F - 1.0F) * 0.15F,
+							(pRandom.nextFloat() * 2.0F - 1.0F) * 0.15F,
+							(pRandom.nextFloat() * 2.0F - 1.0F) * 0.15F);
 				} else {
 					pPoseStack.translate(
-							(this.random.nextFloat() * 2.0F - 1.0F) * 0.15F * 0.5F,
-							(this.random.nextFloat() * 2.0F - 1.0F) * 0.15F * 0.5F,
+							(pRandom.nextFloat() * 2.0F - 1.0F) * 0.15F * 0.5F,
+							(pRandom.nextFloat() * 2.0F - 1.0F) * 0.15F * 0.5F,
 							0.0D);
 				}
 			}
 
-			var level = Objects.requireNonNull(pBlockEntity.getLevel());
-			var packedLight = LightTexture.pack(
-					level.getBrightness(LightLayer.BLOCK, pos.above()),
-					level.getBrightness(LightLayer.SKY, pos.above()));
-			this.itemRenderer.render(
-					itemstack,
-					ItemDisplayContext.GROUND,
-					false,
-					pPoseStack,
-					pBufferSource,
-					packedLight,
-					OverlayTexture.NO_OVERLAY,
-					bakedmodel);
+			pAction.run();
 			pPoseStack.popPose();
 			if (!gui3d) {
 				pPoseStack.translate(0.0, 0.0, 0.09375F);
 			}
 		}
-
 		pPoseStack.popPose();
 	}
 
-	private int getRenderAmount(ItemStack pStack) {
+	public static int getRenderAmount(ItemStack pStack) {
 		var i = 1;
 		if (pStack.getCount() > 48) {
 			i = 5;
@@ -141,4 +280,10 @@ public final class ItemDisplayRenderer implements BlockEntityRenderer<ItemDispla
 
 		return i;
 	}
+
+	private record CachedItem(ItemStack stack, int amount, int light, float yOffset, @Nullable RecordedMesh mesh) {
+		private boolean matches(ItemStack pStack, int pAmount, int pPackedLight) {
+			return this.amount == pAmount && this.light == pPackedLight && ItemStack.isSameItemSameTags(this.stack, pStack);
+		}
+	}
 }
@@ -1,5 +1,6 @@
 package org.teacon.xkdeco.client.renderer;
 
+import org.teacon.xkdeco.XKDClientConfig;
 import org.teacon.xkdeco.block.MimicWallBlock;
 import org.teacon.xkdeco.blockentity.MimicWallBlockEntity;
 
@@ -13,10 +14,8 @@ import net.minecraft.client.renderer.block.BlockRenderDispatcher;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.level.block.state.properties.Property;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.model.data.ModelData;
 
 @Deprecated
@@ -29,9 +28,19 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 		this.blockRenderer = context.getBlockRenderDispatcher();
 	}
 
+	@Override
+	public boolean shouldRender(MimicWallBlockEntity pBlockEntity, Vec3 pCameraPos) {
+		// mimic walls are part of the chunk mesh unless the legacy renderer is enabled
+		return XKDClientConfig.mimicWallBlockEntityRenderer && BlockEntityCulling.shouldRender(
+				pBlockEntity,
+				pCameraPos,
+				this.getViewDistance(),
+				BlockEntityCulling.ALL_FACES);
+	}
+
 	@Override
 	public int getViewDistance() {
-		return 256;
+		return XKDClientConfig.mimicWallViewDistance;
 	}
 
 	// When in doubt, refer to this Forge re-design document
@@ -49,7 +58,7 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 		var pos = pBlockEntity.getBlockPos();
 		var state = pBlockEntity.getBlockState();
 		if (state.getBlock() instanceof MimicWallBlock wall) {
-			var wallState = this.withState(state, wall.getWallDelegate(), BlockStateProperties.UP);
+			var wallState = MimicWallBlock.toDelegateState(state, wall.getWallDelegate(), BlockStateProperties.UP);
 			if (level == null) {
 				this.blockRenderer.renderSingleBlock(wallState,
 						pPoseStack,
@@ -75,7 +84,7 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 							renderType);
 					var eastWall = wall.connectsTo(level.getBlockState(pos.east()));
 					if (eastWall.isPresent()) {
-						var eastWallState = this.withState(state, eastWall.get(), BlockStateProperties.EAST_WALL);
+						var eastWallState = MimicWallBlock.toDelegateState(state, eastWall.get(), BlockStateProperties.EAST_WALL);
 						this.blockRenderer.renderBatched(eastWallState,
 								pos,
 								level,
@@ -88,7 +97,7 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 					}
 					var northWall = wall.connectsTo(level.getBlockState(pos.north()));
 					if (northWall.isPresent()) {
-						var northWallState = this.withState(state, northWall.get(), BlockStateProperties.NORTH_WALL);
+						var northWallState = MimicWallBlock.toDelegateState(state, northWall.get(), BlockStateProperties.NORTH_WALL);
 						this.blockRenderer.renderBatched(northWallState,
 								pos,
 								level,
@@ -101,7 +110,7 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 					}
 					var southWall = wall.connectsTo(level.getBlockState(pos.south()));
 					if (southWall.isPresent()) {
-						var southWallState = this.withState(state, southWall.get(), BlockStateProperties.SOUTH_WALL);
+						var southWallState = MimicWallBlock.toDelegateState(state, southWall.get(), BlockStateProperties.SOUTH_WALL);
 						this.blockRenderer.renderBatched(southWallState,
 								pos,
 								level,
@@ -114,7 +123,7 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 					}
 					var westWall = wall.connectsTo(level.getBlockState(pos.west()));
 					if (westWall.isPresent()) {
-						var westWallState = this.withState(state, westWall.get(), BlockStateProperties.WEST_WALL);
+						var westWallState = MimicWallBlock.toDelegateState(state, westWall.get(), BlockStateProperties.WEST_WALL);
 						this.blockRenderer.renderBatched(westWallState,
 								pos,
 								level,
@@ -130,15 +139,4 @@ public final class MimicWallRenderer implements BlockEntityRenderer<MimicWallBlo
 			}
 		}
 	}
-
-	private <T extends Comparable<T>> BlockState withState(BlockState source, Block target, Property<T> property) {
-		var state = target.defaultBlockState();
-		if (state.hasProperty(BlockStateProperties.UP)) {
-			state = state.setValue(BlockStateProperties.UP, false);
-		}
-		if (state.hasProperty(property)) {
-			state = state.setValue(property, source.getValue(property));
-		}
-		return state;
-	}
 }
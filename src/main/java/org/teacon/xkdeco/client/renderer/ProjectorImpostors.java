@@ -0,0 +1,185 @@
+package org.teacon.xkdeco.client.renderer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.teacon.xkdeco.XKDeco;
+
+import com.google.common.collect.Sets;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.platform.Lighting;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexSorting;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.AbstractTexture;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.TickEvent;
+
+/**
+ * Flat images of items, rendered once per item and drawn by distant item projectors instead of the full model.
+ * Images are requested from the level renderer and rendered at the start of the next frame, outside of level
+ * rendering, so the renderer keeps drawing the full model until the image is ready.
+ */
+public final class ProjectorImpostors implements ResourceManagerReloadListener {
+	public static final ProjectorImpostors INSTANCE = new ProjectorImpostors();
+	private static final int SIZE = 128;
+	private static final int MAX_IMPOSTORS = 64;
+
+	private final Map<Key, Impostor> impostors = new LinkedHashMap<>(16, 0.75F, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Impostor> eldest) {
+			if (size() > MAX_IMPOSTORS) {
+				var location = eldest.getValue().location;
+				Minecraft.getInstance().getTextureManager().release(location);
+				usedLocations.remove(location);
+				return true;
+			}
+			return false;
+		}
+	};
+	/**
+	 * Bounded like the images themselves; a dropped request is made again by the next frame that draws the projector.
+	 */
+	private final Map<Key, ItemStack> pending = new LinkedHashMap<>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, ItemStack> eldest) {
+			return size() > MAX_IMPOSTORS;
+		}
+	};
+	private final Set<ResourceLocation> usedLocations = Sets.newHashSet();
+	private final MultiBufferSource.BufferSource bufferSource = MultiBufferSource.immediate(new BufferBuilder(256));
+	private int nextId;
+
+	private ProjectorImpostors() {
+	}
+
+	/**
+	 * Returns the render type drawing the image of the item, or null if it is not rendered yet.
+	 */
+	@Nullable
+	public RenderType get(ItemStack stack) {
+		var key = new Key(stack.getItem(), stack.getTag());
+		var impostor = this.impostors.get(key);
+		if (impostor == null) {
+			if (!this.pending.containsKey(key)) {
+				// the stored key must not share its tag with a stack that may still change
+				var copy = stack.copy();
+				this.pending.put(new Key(copy.getItem(), copy.getTag()), copy);
+			}
+			return null;
+		}
+		return impostor.renderType;
+	}
+
+	public void renderPending(TickEvent.RenderTickEvent event) {
+		if (event.phase != TickEvent.Phase.START || this.pending.isEmpty()) {
+			return;
+		}
+		this.pending.forEach((key, stack) -> this.impostors.computeIfAbsent(key, $ -> this.render(stack)));
+		this.pending.clear();
+		Minecraft.getInstance().getMainRenderTarget().bindWrite(true);
+	}
+
+	private Impostor render(ItemStack stack) {
+		var minecraft = Minecraft.getInstance();
+		var target = new TextureTarget(SIZE, SIZE, true, Minecraft.ON_OSX);
+		target.setClearColor(0, 0, 0, 0);
+		target.clear(Minecraft.ON_OSX);
+		target.bindWrite(true);
+
+		// the same projection and pose as an item in a 16x16 gui slot
+		var projection = RenderSystem.getProjectionMatrix();
+		var vertexSorting = RenderSystem.getVertexSorting();
+		RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0, 16, 16, 0, 1000, 3000), VertexSorting.ORTHOGRAPHIC_Z);
+		var modelViewStack = RenderSystem.getModelViewStack();
+		modelViewStack.pushPose();
+		modelViewStack.setIdentity();
+		modelViewStack.translate(0, 0, -2000);
+		RenderSystem.applyModelViewMatrix();
+
+		var model = minecraft.getItemRenderer().getModel(stack, null, null, 0);
+		var poseStack = new PoseStack();
+		poseStack.translate(8, 8, 150);
+		poseStack.mulPoseMatrix(new Matrix4f().scaling(1, -1, 1));
+		poseStack.scale(16, 16, 16);
+		if (model.usesBlockLight()) {
+			Lighting.setupFor3DItems();
+		} else {
+			Lighting.setupForFlatItems();
+		}
+		minecraft.getItemRenderer().render(
+				stack,
+				ItemDisplayContext.GUI,
+				false,
+				poseStack,
+				this.bufferSource,
+				LightTexture.FULL_BRIGHT,
+				OverlayTexture.NO_OVERLAY,
+				model);
+		this.bufferSource.endBatch();
+
+		modelViewStack.popPose();
+		RenderSystem.applyModelViewMatrix();
+		RenderSystem.setProjectionMatrix(projection, vertexSorting);
+
+		var location = XKDeco.id("projector_impostor/" + this.nextId++);
+		minecraft.getTextureManager().register(location, new ImpostorTexture(target));
+		this.usedLocations.add(location);
+		return new Impostor(location, RenderType.entityCutoutNoCull(location));
+	}
+
+	@Override
+	public void onResourceManagerReload(ResourceManager pResourceManager) {
+		var textureManager = Minecraft.getInstance().getTextureManager();
+		this.usedLocations.forEach(textureManager::release);
+		this.usedLocations.clear();
+		this.impostors.clear();
+		this.pending.clear();
+	}
+
+	private record Key(Item item, @Nullable CompoundTag tag) {
+	}
+
+	private record Impostor(ResourceLocation location, RenderType renderType) {
+	}
+
+	/**
+	 * Exposes the color buffer of the render target as a texture, and frees the whole target when released.
+	 */
+	private static final class ImpostorTexture extends AbstractTexture {
+		private final TextureTarget target;
+
+		private ImpostorTexture(TextureTarget target) {
+			this.target = target;
+			this.id = target.getColorTextureId();
+		}
+
+		@Override
+		public void load(ResourceManager pResourceManager) {
+		}
+
+		@Override
+		public void releaseId() {
+			if (this.id != -1) {
+				this.target.destroyBuffers();
+				this.id = -1;
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package org.teacon.xkdeco.client.renderer;
+
+import java.util.Map;
+
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+import com.google.common.collect.Maps;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import javax.annotation.ParametersAreNonnullByDefault;
+import net.minecraft.MethodsReturnNonnullByDefault;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+
+/**
+ * A {@link MultiBufferSource} that keeps every emitted vertex so it can be replayed later under another pose,
+ * which saves resolving models and walking quads again when the same geometry is drawn every frame.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+public final class RecordedMesh implements MultiBufferSource {
+	// x, y, z, color, u, v, overlay, light, normal x, normal y, normal z
+	private static final int STRIDE = 11;
+
+	// meshes are only replayed on the render thread, so the scratch vectors can be shared
+	private static final Vector4f POSITION = new Vector4f();
+	private static final Vector3f NORMAL = new Vector3f();
+
+	private final Map<RenderType, Recorder> recorders = Maps.newLinkedHashMap();
+
+	@Override
+	public VertexConsumer getBuffer(RenderType pRenderType) {
+		return this.recorders.computeIfAbsent(pRenderType, $ -> new Recorder());
+	}
+
+	public void replay(PoseStack.Pose pose, MultiBufferSource bufferSource) {
+		var position = POSITION;
+		var normal = NORMAL;
+		for (var entry : this.recorders.entrySet()) {
+			var data = entry.getValue().data;
+			if (data.isEmpty()) {
+				continue;
+			}
+			var consumer = bufferSource.getBuffer(entry.getKey());
+			var elements = data.elements();
+			for (int i = 0, size = data.size(); i < size; i += STRIDE) {
+				position.set(
+						Float.intBitsToFloat(elements[i]),
+						Float.intBitsToFloat(elements[i + 1]),
+						Float.intBitsToFloat(elements[i + 2]),
+						1);
+				pose.pose().transform(position);
+				normal.set(
+						Float.intBitsToFloat(elements[i + 8]),
+						Float.intBitsToFloat(elements[i + 9]),
+						Float.intBitsToFloat(elements[i + 10]));
+				pose.normal().transform(normal);
+				var color = elements[i + 3];
+				consumer.vertex(
+						position.x(),
+						position.y(),
+						position.z(),
+						(color >> 16 & 0xFF) / 255F,
+						(color >> 8 & 0xFF) / 255F,
+						(color & 0xFF) / 255F,
+						(color >>> 24) / 255F,
+						Float.intBitsToFloat(elements[i + 4]),
+						Float.intBitsToFloat(elements[i + 5]),
+						elements[i + 6],
+						elements[i + 7],
+						normal.x(),
+						normal.y(),
+						normal.z());
+			}
+		}
+	}
+
+	private static final class Recorder implements VertexConsumer {
+		private final IntArrayList data = new IntArrayList();
+		private final int[] vertex = new int[STRIDE];
+		private boolean defaultColorSet;
+		private int defaultColor;
+
+		@Override
+		public VertexConsumer vertex(double pX, double pY, double pZ) {
+			this.vertex[0] = Float.floatToRawIntBits((float) pX);
+			this.vertex[1] = Float.floatToRawIntBits((float) pY);
+			this.vertex[2] = Float.floatToRawIntBits((float) pZ);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int pRed, int pGreen, int pBlue, int pAlpha) {
+			this.vertex[3] = pAlpha << 24 | pRed << 16 | pGreen << 8 | pBlue;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv(float pU, float pV) {
+			this.vertex[4] = Float.floatToRawIntBits(pU);
+			this.vertex[5] = Float.floatToRawIntBits(pV);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlayCoords(int pU, int pV) {
+			this.vertex[6] = pU & 0xFFFF | pV << 16;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv2(int pU, int pV) {
+			this.vertex[7] = pU & 0xFFFF | pV << 16;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float pX, float pY, float pZ) {
+			this.vertex[8] = Float.floatToRawIntBits(pX);
+			this.vertex[9] = Float.floatToRawIntBits(pY);
+			this.vertex[10] = Float.floatToRawIntBits(pZ);
+			return this;
+		}
+
+		@Override
+		public void endVertex() {
+			if (this.defaultColorSet) {
+				this.vertex[3] = this.defaultColor;
+			}
+			this.data.addElements(this.data.size(), this.vertex);
+		}
+
+		@Override
+		public void defaultColor(int pDefaultR, int pDefaultG, int pDefaultB, int pDefaultA) {
+			this.defaultColorSet = true;
+			this.defaultColor = pDefaultA << 24 | pDefaultR << 16 | pDefaultG << 8 | pDefaultB;
+		}
+
+		@Override
+		public void unsetDefaultColor() {
+			this.defaultColorSet = false;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package org.teacon.xkdeco.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.teacon.xkdeco.XKDeco;
+
+import com.google.common.base.Suppliers;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+
+import net.minecraft.Util;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.PackOutput;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.forgespi.language.IModInfo;
+import net.minecraftforge.forgespi.locating.IModFile;
+import snownee.kiwi.customization.block.KBlockSettings;
+import snownee.kiwi.customization.block.component.KBlockComponent;
+import snownee.kiwi.datagen.GameObjectLookup;
+import snownee.kiwi.util.NotNullByDefault;
+
+/**
+ * Skips the wrapped provider when none of its inputs changed since its last run. Inputs are the mod's blocks and their
+ * settings, the Kiwi definitions they are loaded from, the classes of the provider itself and of the shared datagen
+ * helpers and mixins, and the versions of the mods datagen reads from. Code outside of datagen is not an input, so
+ * editing it does not rerun any provider. Skipped outputs are replayed to the cache so that they are not purged as
+ * stale. Run with {@code -Dxkdeco.datagen.full=true} to force a full run.
+ */
+@NotNullByDefault
+public class IncrementalDataProvider implements DataProvider {
+	private static final Logger LOGGER = LogUtils.getLogger();
+	private static final String FULL_RUN_PROPERTY = "xkdeco.datagen.full";
+	private static final Supplier<HashCode> SHARED_INPUTS = Suppliers.memoize(IncrementalDataProvider::hashSharedInputs);
+	/**
+	 * Mods whose code or data ends up in the generated files, anything else loaded in the datagen run is not an input.
+	 */
+	private static final Set<String> DATAGEN_MODS = Set.of("minecraft", "forge", "kiwi", "fabric_data_generation_api_v1");
+
+	private final DataProvider delegate;
+	private final Path outputFolder;
+	private final Path stateFile;
+
+	public IncrementalDataProvider(PackOutput output, DataProvider delegate) {
+		this.delegate = delegate;
+		this.outputFolder = output.getOutputFolder();
+		this.stateFile = outputFolder.resolve(".cache")
+				.resolve(XKDeco.ID)
+				.resolve(delegate.getClass().getSimpleName() + ".json");
+	}
+
+	@Override
+	public CompletableFuture<?> run(CachedOutput output) {
+		HashCode inputHash = hashInputs();
+		List<Path> previousOutputs = readPreviousOutputs(inputHash);
+		if (previousOutputs != null) {
+			LOGGER.info("Inputs of {} are unchanged, reusing {} files", getName(), previousOutputs.size());
+			return CompletableFuture.runAsync(() -> previousOutputs.forEach($ -> replay(output, $)), Util.backgroundExecutor());
+		}
+		Set<Path> outputs = ConcurrentHashMap.newKeySet();
+		CachedOutput recording = (path, bytes, hash) -> {
+			outputs.add(path);
+			output.writeIfNeeded(path, bytes, hash);
+		};
+		return delegate.run(recording).thenRun(() -> writeState(inputHash, outputs));
+	}
+
+	@Override
+	public String getName() {
+		// keep the delegate's name so that the vanilla cache entry stays the same
+		return delegate.getName();
+	}
+
+	private HashCode hashInputs() {
+		Hasher hasher = Hashing.sha256().newHasher();
+		hasher.putBytes(SHARED_INPUTS.get().asBytes());
+		String providerName = delegate.getClass().getSimpleName();
+		IModFile modFile = ModList.get().getModFileById(XKDeco.ID).getFile();
+		// the provider itself, including its nested and synthetic classes, and the helpers that are not a provider
+		hashFolder(hasher, modFile.findResource("org", "teacon", "xkdeco", "data"), file -> {
+			String name = file.getFileName().toString();
+			return name.startsWith(providerName + ".") || name.startsWith(providerName + "$") || !name.contains("Provider");
+		});
+		return hasher.hash();
+	}
+
+	private static HashCode hashSharedInputs() {
+		Hasher hasher = Hashing.sha256().newHasher();
+		GameObjectLookup.all(Registries.BLOCK, XKDeco.ID)
+				.sorted(Comparator.comparing(BuiltInRegistries.BLOCK::getKey))
+				.forEach(block -> hashBlock(hasher, block));
+		IModFile modFile = ModList.get().getModFileById(XKDeco.ID).getFile();
+		hashFolder(hasher, modFile.findResource("assets", XKDeco.ID, "kiwi"), file -> true);
+		// the mixins into vanilla generators are used by several providers
+		hashFolder(hasher, modFile.findResource("org", "teacon", "xkdeco", "mixin", "data"), file -> true);
+		ModList.get().getMods().stream()
+				.filter(mod -> DATAGEN_MODS.contains(mod.getModId()))
+				.sorted(Comparator.comparing(IModInfo::getModId))
+				.forEach(mod -> {
+					hasher.putString(mod.getModId(), StandardCharsets.UTF_8);
+					hasher.putString(mod.getVersion().toString(), StandardCharsets.UTF_8);
+				});
+		return hasher.hash();
+	}
+
+	private static void hashFolder(Hasher hasher, Path folder, Predicate<Path> filter) {
+		if (!Files.isDirectory(folder)) {
+			return;
+		}
+		try (Stream<Path> files = Files.walk(folder)) {
+			for (Path file : files.filter(Files::isRegularFile).filter(filter).sorted().toList()) {
+				hasher.putString(folder.relativize(file).toString(), StandardCharsets.UTF_8);
+				hasher.putBytes(Files.readAllBytes(file));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void hashBlock(Hasher hasher, Block block) {
+		hasher.putString(BuiltInRegistries.BLOCK.getKey(block).toString(), StandardCharsets.UTF_8);
+		hasher.putString(block.getClass().getName(), StandardCharsets.UTF_8);
+		hasher.putString(block.getStateDefinition().getProperties().toString(), StandardCharsets.UTF_8);
+		hasher.putBoolean(block.asItem() != Items.AIR);
+		KBlockSettings settings = KBlockSettings.of(block);
+		if (settings != null) {
+			// the component map has no stable order, so the serialized components are sorted
+			settings.components.entrySet().stream()
+					.map(entry -> serializeComponent(entry.getKey(), entry.getValue()))
+					.sorted()
+					.forEach(component -> hasher.putString(component, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Serializes a component with the codec it is loaded with, which gives the same string for the same configuration
+	 * on every run, unlike {@code toString} or the field values, which may carry identity hashes.
+	 */
+	@SuppressWarnings("unchecked")
+	private static String serializeComponent(KBlockComponent.Type<?> type, KBlockComponent component) {
+		Codec<KBlockComponent> codec = (Codec<KBlockComponent>) type.codec();
+		JsonElement json = codec.encodeStart(JsonOps.INSTANCE, component).getOrThrow(false, $ -> {
+		});
+		return component.getClass().getName() + json;
+	}
+
+	/**
+	 * Returns the outputs of the last run if it had the same inputs and all of them still exist, otherwise null.
+	 */
+	@Nullable
+	private List<Path> readPreviousOutputs(HashCode inputHash) {
+		if (Boolean.getBoolean(FULL_RUN_PROPERTY) || !Files.isRegularFile(stateFile)) {
+			return null;
+		}
+		try {
+			JsonObject state = JsonParser.parseString(Files.readString(stateFile)).getAsJsonObject();
+			if (!inputHash.toString().equals(state.get("input").getAsString())) {
+				return null;
+			}
+			List<Path> outputs = state.getAsJsonArray("outputs")
+					.asList()
+					.stream()
+					.map(JsonElement::getAsString)
+					.map(outputFolder::resolve)
+					.toList();
+			return outputs.stream().allMatch(Files::isRegularFile) ? outputs : null;
+		} catch (Exception e) {
+			LOGGER.warn("Failed to read datagen state {}", stateFile, e);
+			return null;
+		}
+	}
+
+	private void writeState(HashCode inputHash, Set<Path> outputs) {
+		JsonObject state = new JsonObject();
+		state.addProperty("input", inputHash.toString());
+		JsonArray array = new JsonArray();
+		outputs.stream().map($ -> outputFolder.relativize($).toString().replace('\\', '/')).sorted().forEach(array::add);
+		state.add("outputs", array);
+		try {
+			Files.createDirectories(stateFile.getParent());
+			Files.writeString(stateFile, state.toString());
+		} catch (IOException e) {
+			LOGGER.warn("Failed to write datagen state {}", stateFile, e);
+		}
+	}
+
+	private static void replay(CachedOutput output, Path path) {
+		try {
+			byte[] bytes = Files.readAllBytes(path);
+			// the vanilla cache hashes with SHA-1, so an unchanged file is recognized and not rewritten
+			output.writeIfNeeded(path, bytes, Hashing.sha1().hashBytes(bytes));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
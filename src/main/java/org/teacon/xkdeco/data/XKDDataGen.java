@@ -10,10 +10,10 @@ public class XKDDataGen implements DataGeneratorEntrypoint {
 	public void onInitializeDataGenerator(FabricDataGenerator generator) {
 		FabricDataGenerator.Pack pack = generator.createPack();
 		pack.addProvider((FabricDataOutput output) -> new KiwiLanguageProvider(output));
-		pack.addProvider(XKDItemTagsProvider::new);
-		pack.addProvider(XKDBlockTagsProvider::new);
-		pack.addProvider(XKDModelProvider::new);
-		pack.addProvider(XKDBlockLootTableProvider::new);
-		pack.addProvider(XKDRecipeProvider::new);
+		pack.addProvider((output, registries) -> new IncrementalDataProvider(output, new XKDItemTagsProvider(output, registries)));
+		pack.addProvider((output, registries) -> new IncrementalDataProvider(output, new XKDBlockTagsProvider(output, registries)));
+		pack.addProvider((FabricDataOutput output) -> new IncrementalDataProvider(output, new XKDModelProvider(output)));
+		pack.addProvider((FabricDataOutput output) -> new IncrementalDataProvider(output, new XKDBlockLootTableProvider(output)));
+		pack.addProvider((FabricDataOutput output) -> new IncrementalDataProvider(output, new XKDRecipeProvider(output)));
 	}
 }
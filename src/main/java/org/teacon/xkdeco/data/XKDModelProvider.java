@@ -8,10 +8,15 @@ import static org.teacon.xkdeco.block.XKDStateProperties.ROOF_SHAPE;
 import static org.teacon.xkdeco.block.XKDStateProperties.ROOF_VARIANT;
 import static org.teacon.xkdeco.block.XKDStateProperties.ROOF_VARIANT_WITHOUT_SLOW;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -24,7 +29,7 @@ import org.teacon.xkdeco.block.ItemDisplayBlock;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import com.google.gson.JsonElement;
 import com.mojang.logging.LogUtils;
 
 import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
@@ -101,7 +106,7 @@ public class XKDModelProvider extends FabricModelProvider {
 			block("empty_candlestick"),
 			block("oil_lamp"));
 	private BlockModelGenerators generators;
-	private static final Set<Block> generated = Sets.newHashSet();
+	private static final Set<Block> generated = ConcurrentHashMap.newKeySet();
 	private final ResourceLocation snowySlabDouble = new ResourceLocation("block/grass_block_snow");
 	private final ResourceLocation snowySlabTop = XKDeco.id("block/snowy_slab_top");
 
@@ -236,19 +241,26 @@ public class XKDModelProvider extends FabricModelProvider {
 	public void generateBlockStateModels(BlockModelGenerators generators) {
 		this.generators = generators;
 		var originalBlockStateOutput = generators.blockStateOutput;
+		var originalModelOutput = generators.modelOutput;
+		var originalSkippedAutoModelsOutput = generators.skippedAutoModelsOutput;
+		// the generation tasks below run in parallel, so their outputs are collected and only passed on, sorted by id,
+		// once all of them are done. The provider then sees the same sequence as a sequential run would on every run.
+		var blockStates = new ConcurrentLinkedQueue<BlockStateGenerator>();
 		generators.blockStateOutput = generator -> {
 			generated.add(generator.getBlock());
-			originalBlockStateOutput.accept(generator);
+			blockStates.add(generator);
 		};
-		var originalModelOutput = generators.modelOutput;
+		var models = new ConcurrentLinkedQueue<Map.Entry<ResourceLocation, Supplier<JsonElement>>>();
 		generators.modelOutput = (modelLocation, json) -> {
 			if (modelLocation.getPath().startsWith("block/grass_cobblestone")) {
 				return;
 			}
 			if (!SKIPPED_MODELS.contains(modelLocation.getPath())) {
-				originalModelOutput.accept(modelLocation, json);
+				models.add(Map.entry(modelLocation, json));
 			}
 		};
+		var skippedAutoModels = new ConcurrentLinkedQueue<Item>();
+		generators.skippedAutoModelsOutput = skippedAutoModels::add;
 		BlockModelGenerators.SHAPE_CONSUMERS = ImmutableMap.<BlockFamily.Variant, BiConsumer<BlockModelGenerators.BlockFamilyProvider, Block>>builder()
 				.putAll(BlockModelGenerators.SHAPE_CONSUMERS)
 				.put(BlockFamily.Variant.CUT, BlockModelGenerators.BlockFamilyProvider::fullBlockVariant)
@@ -275,7 +287,9 @@ public class XKDModelProvider extends FabricModelProvider {
 								ModelTemplates.CUBE_BOTTOM_TOP))
 				.build();
 
-		XKDBlockFamilies.getAllFamilies().filter(BlockFamily::shouldGenerateModel).forEach(family -> {
+		// every task writes its own files, so the output does not depend on the order they run in
+		List<Runnable> tasks = Lists.newArrayList();
+		XKDBlockFamilies.getAllFamilies().filter(BlockFamily::shouldGenerateModel).forEach(family -> tasks.add(() -> {
 			Block baseBlock = family.getBaseBlock();
 			LOGGER.info("Generating models for block family {}", baseBlock);
 			BlockModelGenerators.BlockFamilyProvider provider;
@@ -307,185 +321,219 @@ public class XKDModelProvider extends FabricModelProvider {
 				provider = generators.family(baseBlock);
 			}
 			provider.generateFor(family);
+		}));
+
+		tasks.add(() -> {
+			createRoof("black_roof", true);
+			createRoof("cyan_roof", true);
+			createRoof("yellow_roof", true);
+			createRoof("blue_roof", false);
+			createRoof("green_roof", false);
+			createRoof("red_roof", false);
+		});
+
+		tasks.add(() -> {
+			for (String s : List.of("danger", "attention", "electricity", "toxic", "radiation", "biohazard")) {
+				createRustingBlock("factory_" + s);
+			}
+			createTrivialCube("maya_quad_screw_thread_stone");
+			createTrivialCube("maya_pictogram_stone");
+			createTrivialCube("maya_skull_stone");
+			createTrivialCube("aztec_sculpture_stone");
+			createTrivialCube("framed_mud_wall_block");
+			createTrivialCube("framed_steel_block");
+			createTrivialCube("steel_filings");
+			createTrivialCube("quartz_sand");
+			createTrivialCube("toughened_sand");
+		});
+
+		tasks.add(() -> {
+			createTrivialCube("ginkgo_leaves");
+			createTrivialCube("orange_maple_leaves");
+			createTrivialCube("red_maple_leaves");
+			createTrivialCube("peach_blossom");
+			createTrivialCube("peach_blossom_leaves");
+			createTrivialCube("cherry_blossom");
+			createTrivialCube("cherry_blossom_leaves");
+			createTrivialCube("white_cherry_blossom");
+			createTrivialCube("white_cherry_blossom_leaves");
+			generators.createTrivialBlock(block("plantable_leaves"), TexturedModel.LEAVES);
+			generators.createTrivialBlock(block("plantable_leaves_dark"), TexturedModel.LEAVES);
+			generators.createTrivialBlock(block("willow_leaves"), TexturedModel.LEAVES);
+			createFallenLeaves("ginkgo_leaves");
+			createFallenLeaves("orange_maple_leaves");
+			createFallenLeaves("red_maple_leaves");
+			createFallenLeaves("peach_blossom");
+			createFallenLeaves("cherry_blossom");
+			createFallenLeaves("white_cherry_blossom");
+			createBlockStateOnly("hanging_willow_leaves", false);
+			generators.createSimpleFlatItemModel(block("hanging_willow_leaves"));
+		});
+
+		tasks.add(() -> {
+			ResourceLocation dirtTexture = getBlockTexture(Blocks.DIRT);
+			ResourceLocation netherrackTexture = getBlockTexture(Blocks.NETHERRACK);
+			TextureMapping snowyMapping = new TextureMapping()
+					.put(TextureSlot.BOTTOM, dirtTexture)
+					.copyForced(TextureSlot.BOTTOM, TextureSlot.PARTICLE)
+					.put(TextureSlot.TOP, getBlockTexture(Blocks.GRASS_BLOCK, "_top"))
+					.put(TextureSlot.SIDE, getBlockTexture(Blocks.GRASS_BLOCK, "_snow"));
+			ModelTemplates.SLAB_TOP.create(snowySlabTop, snowyMapping, generators.modelOutput);
+			createSlab(Blocks.DIRT, false, false, UnaryOperator.identity());
+			createSlab(Blocks.DIRT_PATH, true, true, $ -> $.put(TextureSlot.BOTTOM, dirtTexture));
+			createSlab(Blocks.GRASS_BLOCK, true, true, UnaryOperator.identity());
+			createSlab(Blocks.MYCELIUM, true, true, $ -> $
+					.put(TextureSlot.BOTTOM, dirtTexture)
+					.put(TextureSlot.TOP, getBlockTexture(Blocks.MYCELIUM, "_top")));
+			createSlab(Blocks.NETHERRACK, false, false, UnaryOperator.identity());
+			createSlab(Blocks.PODZOL, true, true, $ -> $
+					.put(TextureSlot.BOTTOM, dirtTexture)
+					.put(TextureSlot.TOP, getBlockTexture(Blocks.PODZOL, "_top")));
+			createSlab(Blocks.CRIMSON_NYLIUM, true, true, $ -> $.put(TextureSlot.BOTTOM, netherrackTexture));
+			createSlab(Blocks.WARPED_NYLIUM, true, true, $ -> $.put(TextureSlot.BOTTOM, netherrackTexture));
+			createSlab(Blocks.END_STONE, false, false, UnaryOperator.identity());
+		});
+
+		tasks.add(() -> {
+			createTreatedWood("varnished");
+			createTreatedWood("ebony");
+			createTreatedWood("mahogany");
+			createBlockStateOnly("air_duct", false);
+			generators.delegateItemModel(block("air_duct"), XKDeco.id("block/furniture/air_duct_corner"));
+			createHorizontalShift("air_duct_oblique", "air_duct_oblique", null, false);
+			generators.blockStateOutput.accept(BlockModelGenerators.createWall(
+					block("hollow_steel_beam"),
+					XKDeco.id("block/furniture/hollow_steel_beam_post"),
+					XKDeco.id("block/furniture/hollow_steel_beam_side"),
+					XKDeco.id("block/furniture/hollow_steel_beam_side_tall")));
+			generators.delegateItemModel(block("hollow_steel_beam"), XKDeco.id("block/furniture/hollow_steel_beam_inventory"));
+			createBlockStateOnly("steel_safety_ladder", true);
+			createBlockStateOnly("steel_ladder", false);
+			ModelTemplates.FLAT_ITEM.create(
+					ModelLocationUtils.getModelLocation(block("steel_ladder").asItem()),
+					TextureMapping.layer0(getBlockTexture(block("steel_safety_ladder"), "_side")),
+					generators.modelOutput);
+			createFaceAttached("hollow_steel_half_beam");
+		});
+
+		tasks.add(() -> {
+			createBlockStateOnly("factory_ceiling_lamp", "furniture/", true);
+			createBlockStateOnly("factory_pendant", "furniture/", true);
+			createBlockStateOnly("empty_fish_tank", "furniture/", true);
+			createBlockStateOnly("covered_lamp", "furniture/", true);
+			createBlockStateOnly("festival_lantern", "furniture/", true);
+			createBlockStateOnly("paper_lantern", "furniture/", true);
+			createBlockStateOnly("red_lantern", "furniture/", true);
+			createBlockStateOnly("roofed_lamp", "furniture/", true);
+			createBlockStateOnly("stone_lamp", "furniture/", true);
+			createBlockStateOnly("deepslate_lamp", "furniture/", true);
+			createBlockStateOnly("blackstone_lamp", "furniture/", true);
+			createBlockStateOnly("stone_water_bowl", "furniture/", true);
+			createBlockStateOnly("stone_water_tank", "furniture/", true);
+			createBlockStateOnly("candlestick", "furniture/", true);
+			createBlockStateOnly("big_candlestick", "furniture/", true);
+			createBlockStateOnly("tech_table", "furniture/", true);
+			createBlockStateOnly("tech_table_circle", "furniture/", true);
+		});
+
+		tasks.add(() -> {
+			createMoulding("egyptian_moulding", "furniture/egyptian_moulding", false, true);
+			createMoulding("egyptian_moulding2", "furniture/egyptian_moulding", false, true);
+			createMoulding("greek_moulding", "furniture/greek_moulding", false, true);
+			createMoulding("greek_moulding2", "furniture/greek_moulding", false, true);
+			createMoulding("roman_moulding", "furniture/roman_moulding", false, true);
+			createMoulding("roman_moulding2", "furniture/roman_moulding", false, true);
+			createMoulding("factory_light_bar", "furniture/factory_light_bar", false, true);
+			createMoulding("dark_wall_base", "furniture/dark_wall_base", true, true);
+			createMoulding("light_wall_base", "furniture/light_wall_base", true, true);
+			createMoulding("mechanical_console", "furniture/mechanical_console", false, true);
+			createMoulding("tech_console", "furniture/tech_console", false, true);
+			createIronBarsLike("hollow_steel_bars", "hollow_steel_block", "steel_column_wall");
 		});
 
-		createRoof("black_roof", true);
-		createRoof("cyan_roof", true);
-		createRoof("yellow_roof", true);
-		createRoof("blue_roof", false);
-		createRoof("green_roof", false);
-		createRoof("red_roof", false);
+		tasks.add(() -> {
+			createPillar("sandstone_pillar");
+			createPillar("red_sandstone_pillar");
+			createPillar("stone_brick_pillar");
+			createPillar("deepslate_pillar");
+			createPillar("blackstone_pillar");
+			createPillar("gilded_blackstone_brick_pillar");
+			createPillar("chiseled_gilded_blackstone");
+			createPillar("luxury_gilded_blackstone");
+			createPillar("maya_double_screw_thread_stone");
+			createPillar("maya_pillar");
+			createPillar("maya_mossy_pillar");
+			createPillar("cut_obsidian_pillar");
+			createPillar("gold_pillar");
+			createPillar("chiseled_gold_block");
+			createPillar("painted_gold_block");
+			createPillar("bronze_pillar");
+			createPillar("steel_pillar");
+		});
+
+		tasks.add(() -> {
+			createSingleScrewState("maya_single_screw_thread_stone");
+			createSingleScrewState("screw_thread_bronze_block");
+
+			createInscriptionBronzeBlock();
+
+			createWall("quartz_wall", "quartz_wall_side");
+
+			createNonRotatedPillar("dark_column_base");
+			createNonRotatedPillar("light_column_base");
 
-		for (String s : List.of("danger", "attention", "electricity", "toxic", "radiation", "biohazard")) {
-			createRustingBlock("factory_" + s);
+			generators.delegateItemModel(block("empty_candlestick"), XKDeco.id("block/furniture/empty_candlestick"));
+
+			generators.skipAutoItemBlock(block("item_projector"));
+
+			createBlockStateOnly("calligraphy", 2);
+			createBlockStateOnly("ink_painting", 2);
+			createBlockStateOnly("weiqi_board", 2);
+			createBlockStateOnly("xiangqi_board", 2);
+		});
+
+		tasks.parallelStream().forEach(Runnable::run);
+
+		// anything not covered above is a gadget, which depends on everything else having been generated first
+		GameObjectLookup.all(Registries.ITEM, XKDeco.ID)
+				.map(Block::byItem)
+				.distinct()
+				.filter(block -> block != Blocks.AIR && !GADGET_SKIP_BLOCKS.contains(block) && !generated.contains(block))
+				.toList()
+				.parallelStream()
+				.forEach(this::createRemaining);
+
+		blockStates.stream()
+				.sorted(Comparator.comparing(generator -> BuiltInRegistries.BLOCK.getKey(generator.getBlock())))
+				.forEach(originalBlockStateOutput);
+		models.stream()
+				.sorted(Map.Entry.comparingByKey())
+				.forEach(entry -> originalModelOutput.accept(entry.getKey(), entry.getValue()));
+		skippedAutoModels.stream()
+				.sorted(Comparator.comparing(BuiltInRegistries.ITEM::getKey))
+				.forEach(originalSkippedAutoModelsOutput);
+	}
+
+	private void createRemaining(Block block) {
+		var id = BuiltInRegistries.BLOCK.getKey(block);
+		if (block instanceof ItemDisplayBlock || block instanceof BlockDisplayBlock) {
+			createBlockStateOnly(id.getPath(), "furniture/", true);
+			return;
 		}
-		createTrivialCube("maya_quad_screw_thread_stone");
-		createTrivialCube("maya_pictogram_stone");
-		createTrivialCube("maya_skull_stone");
-		createTrivialCube("aztec_sculpture_stone");
-		createTrivialCube("framed_mud_wall_block");
-		createTrivialCube("framed_steel_block");
-		createTrivialCube("steel_filings");
-		createTrivialCube("quartz_sand");
-		createTrivialCube("toughened_sand");
-
-		createTrivialCube("ginkgo_leaves");
-		createTrivialCube("orange_maple_leaves");
-		createTrivialCube("red_maple_leaves");
-		createTrivialCube("peach_blossom");
-		createTrivialCube("peach_blossom_leaves");
-		createTrivialCube("cherry_blossom");
-		createTrivialCube("cherry_blossom_leaves");
-		createTrivialCube("white_cherry_blossom");
-		createTrivialCube("white_cherry_blossom_leaves");
-		generators.createTrivialBlock(block("plantable_leaves"), TexturedModel.LEAVES);
-		generators.createTrivialBlock(block("plantable_leaves_dark"), TexturedModel.LEAVES);
-		generators.createTrivialBlock(block("willow_leaves"), TexturedModel.LEAVES);
-		createFallenLeaves("ginkgo_leaves");
-		createFallenLeaves("orange_maple_leaves");
-		createFallenLeaves("red_maple_leaves");
-		createFallenLeaves("peach_blossom");
-		createFallenLeaves("cherry_blossom");
-		createFallenLeaves("white_cherry_blossom");
-		createBlockStateOnly("hanging_willow_leaves", false);
-		generators.createSimpleFlatItemModel(block("hanging_willow_leaves"));
-
-		ResourceLocation dirtTexture = getBlockTexture(Blocks.DIRT);
-		ResourceLocation netherrackTexture = getBlockTexture(Blocks.NETHERRACK);
-		TextureMapping snowyMapping = new TextureMapping()
-				.put(TextureSlot.BOTTOM, dirtTexture)
-				.copyForced(TextureSlot.BOTTOM, TextureSlot.PARTICLE)
-				.put(TextureSlot.TOP, getBlockTexture(Blocks.GRASS_BLOCK, "_top"))
-				.put(TextureSlot.SIDE, getBlockTexture(Blocks.GRASS_BLOCK, "_snow"));
-		ModelTemplates.SLAB_TOP.create(snowySlabTop, snowyMapping, generators.modelOutput);
-		createSlab(Blocks.DIRT, false, false, UnaryOperator.identity());
-		createSlab(Blocks.DIRT_PATH, true, true, $ -> $.put(TextureSlot.BOTTOM, dirtTexture));
-		createSlab(Blocks.GRASS_BLOCK, true, true, UnaryOperator.identity());
-		createSlab(Blocks.MYCELIUM, true, true, $ -> $
-				.put(TextureSlot.BOTTOM, dirtTexture)
-				.put(TextureSlot.TOP, getBlockTexture(Blocks.MYCELIUM, "_top")));
-		createSlab(Blocks.NETHERRACK, false, false, UnaryOperator.identity());
-		createSlab(Blocks.PODZOL, true, true, $ -> $
-				.put(TextureSlot.BOTTOM, dirtTexture)
-				.put(TextureSlot.TOP, getBlockTexture(Blocks.PODZOL, "_top")));
-		createSlab(Blocks.CRIMSON_NYLIUM, true, true, $ -> $.put(TextureSlot.BOTTOM, netherrackTexture));
-		createSlab(Blocks.WARPED_NYLIUM, true, true, $ -> $.put(TextureSlot.BOTTOM, netherrackTexture));
-		createSlab(Blocks.END_STONE, false, false, UnaryOperator.identity());
-
-		createTreatedWood("varnished");
-		createTreatedWood("ebony");
-		createTreatedWood("mahogany");
-		createBlockStateOnly("air_duct", false);
-		generators.delegateItemModel(block("air_duct"), XKDeco.id("block/furniture/air_duct_corner"));
-		createHorizontalShift("air_duct_oblique", "air_duct_oblique", null, false);
-		generators.blockStateOutput.accept(BlockModelGenerators.createWall(
-				block("hollow_steel_beam"),
-				XKDeco.id("block/furniture/hollow_steel_beam_post"),
-				XKDeco.id("block/furniture/hollow_steel_beam_side"),
-				XKDeco.id("block/furniture/hollow_steel_beam_side_tall")));
-		generators.delegateItemModel(block("hollow_steel_beam"), XKDeco.id("block/furniture/hollow_steel_beam_inventory"));
-		createBlockStateOnly("steel_safety_ladder", true);
-		createBlockStateOnly("steel_ladder", false);
-		ModelTemplates.FLAT_ITEM.create(
-				ModelLocationUtils.getModelLocation(block("steel_ladder").asItem()),
-				TextureMapping.layer0(getBlockTexture(block("steel_safety_ladder"), "_side")),
-				generators.modelOutput);
-		createFaceAttached("hollow_steel_half_beam");
-
-		createBlockStateOnly("factory_ceiling_lamp", "furniture/", true);
-		createBlockStateOnly("factory_pendant", "furniture/", true);
-		createBlockStateOnly("empty_fish_tank", "furniture/", true);
-		createBlockStateOnly("covered_lamp", "furniture/", true);
-		createBlockStateOnly("festival_lantern", "furniture/", true);
-		createBlockStateOnly("paper_lantern", "furniture/", true);
-		createBlockStateOnly("red_lantern", "furniture/", true);
-		createBlockStateOnly("roofed_lamp", "furniture/", true);
-		createBlockStateOnly("stone_lamp", "furniture/", true);
-		createBlockStateOnly("deepslate_lamp", "furniture/", true);
-		createBlockStateOnly("blackstone_lamp", "furniture/", true);
-		createBlockStateOnly("stone_water_bowl", "furniture/", true);
-		createBlockStateOnly("stone_water_tank", "furniture/", true);
-		createBlockStateOnly("candlestick", "furniture/", true);
-		createBlockStateOnly("big_candlestick", "furniture/", true);
-		createBlockStateOnly("tech_table", "furniture/", true);
-		createBlockStateOnly("tech_table_circle", "furniture/", true);
-
-		createMoulding("egyptian_moulding", "furniture/egyptian_moulding", false, true);
-		createMoulding("egyptian_moulding2", "furniture/egyptian_moulding", false, true);
-		createMoulding("greek_moulding", "furniture/greek_moulding", false, true);
-		createMoulding("greek_moulding2", "furniture/greek_moulding", false, true);
-		createMoulding("roman_moulding", "furniture/roman_moulding", false, true);
-		createMoulding("roman_moulding2", "furniture/roman_moulding", false, true);
-		createMoulding("factory_light_bar", "furniture/factory_light_bar", false, true);
-		createMoulding("dark_wall_base", "furniture/dark_wall_base", true, true);
-		createMoulding("light_wall_base", "furniture/light_wall_base", true, true);
-		createMoulding("mechanical_console", "furniture/mechanical_console", false, true);
-		createMoulding("tech_console", "furniture/tech_console", false, true);
-		createIronBarsLike("hollow_steel_bars", "hollow_steel_block", "steel_column_wall");
-
-		createPillar("sandstone_pillar");
-		createPillar("red_sandstone_pillar");
-		createPillar("stone_brick_pillar");
-		createPillar("deepslate_pillar");
-		createPillar("blackstone_pillar");
-		createPillar("gilded_blackstone_brick_pillar");
-		createPillar("chiseled_gilded_blackstone");
-		createPillar("luxury_gilded_blackstone");
-		createPillar("maya_double_screw_thread_stone");
-		createPillar("maya_pillar");
-		createPillar("maya_mossy_pillar");
-		createPillar("cut_obsidian_pillar");
-		createPillar("gold_pillar");
-		createPillar("chiseled_gold_block");
-		createPillar("painted_gold_block");
-		createPillar("bronze_pillar");
-		createPillar("steel_pillar");
-
-		createSingleScrewState("maya_single_screw_thread_stone");
-		createSingleScrewState("screw_thread_bronze_block");
-
-		createInscriptionBronzeBlock();
-
-		createWall("quartz_wall", "quartz_wall_side");
-
-		createNonRotatedPillar("dark_column_base");
-		createNonRotatedPillar("light_column_base");
-
-		generators.delegateItemModel(block("empty_candlestick"), XKDeco.id("block/furniture/empty_candlestick"));
-
-		generators.skipAutoItemBlock(block("item_projector"));
-
-		createBlockStateOnly("calligraphy", 2);
-		createBlockStateOnly("ink_painting", 2);
-		createBlockStateOnly("weiqi_board", 2);
-		createBlockStateOnly("xiangqi_board", 2);
-
-		outer:
-		for (Item item : GameObjectLookup.all(Registries.ITEM, XKDeco.ID).toList()) {
-			Block block = Block.byItem(item);
-			if (block == Blocks.AIR || GADGET_SKIP_BLOCKS.contains(block) || generated.contains(block)) {
-				continue;
-			}
-			var id = BuiltInRegistries.BLOCK.getKey(block);
-			if (block instanceof ItemDisplayBlock || block instanceof BlockDisplayBlock) {
-				createBlockStateOnly(id.getPath(), "furniture/", true);
-				continue;
-			}
-			if (id.getPath().endsWith("column_base") || id.getPath().endsWith("column_head")) {
-				createBlockStateOnly(id.getPath(), "furniture/", true);
-				continue;
-			}
-			if (id.getPath().endsWith("column") && !id.getPath().endsWith("with_column")) {
-				createBlockStateOnly(id.getPath(), "furniture/", true);
-				continue;
-			}
-			for (String prefix : GADGET_SKIP_PREFIXES) {
-				if (id.getPath().startsWith(prefix)) {
-					continue outer;
-				}
+		if (id.getPath().endsWith("column_base") || id.getPath().endsWith("column_head")) {
+			createBlockStateOnly(id.getPath(), "furniture/", true);
+			return;
+		}
+		if (id.getPath().endsWith("column") && !id.getPath().endsWith("with_column")) {
+			createBlockStateOnly(id.getPath(), "furniture/", true);
+			return;
+		}
+		for (String prefix : GADGET_SKIP_PREFIXES) {
+			if (id.getPath().startsWith(prefix)) {
+				return;
 			}
-			createGadget(block);
 		}
+		createGadget(block);
 	}
 
 	private void createNonRotatedPillar(String id) {
@@ -1,15 +1,21 @@
 package org.teacon.xkdeco.init;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.teacon.xkdeco.XKDCommonConfig;
 import org.teacon.xkdeco.XKDeco;
 import org.teacon.xkdeco.block.MimicWallBlock;
 import org.teacon.xkdeco.item.MimicWallItem;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.mojang.datafixers.util.Pair;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
@@ -22,7 +28,6 @@ import net.minecraft.tags.BlockTags;
 import net.minecraft.world.item.CreativeModeTab;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.WallBlock;
 import net.minecraftforge.event.BuildCreativeModeTabContentsEvent;
 import net.minecraftforge.registries.RegisterEvent;
@@ -36,58 +41,116 @@ public final class MimicWallsLoader {
 	private static final ResourceKey<CreativeModeTab> STRUCTURE_TAB_KEY = ResourceKey.create(
 			Registries.CREATIVE_MODE_TAB,
 			XKDeco.id("structure"));
+	private static final List<MimicWallBlock> MIMIC_WALLS = Lists.newArrayList();
+	private static final List<Holder<Block>> MIMIC_WALL_HOLDERS = Lists.newArrayList();
 
+	/**
+	 * Every registered mimic wall, in registration order. This is the only list of walls, resources and tags are derived from it.
+	 */
+	public static List<MimicWallBlock> mimicWalls() {
+		return Collections.unmodifiableList(MIMIC_WALLS);
+	}
+
+	@SuppressWarnings("deprecation")
 	public static void addMimicWallBlocks(RegisterEvent event) {
-		var vanillaWalls = List.of(
-				Blocks.COBBLESTONE_WALL,
-				Blocks.MOSSY_COBBLESTONE_WALL,
-				Blocks.BRICK_WALL,
-				Blocks.PRISMARINE_WALL,
-				Blocks.RED_SANDSTONE_WALL,
-				Blocks.MOSSY_STONE_BRICK_WALL,
-				Blocks.GRANITE_WALL,
-				Blocks.STONE_BRICK_WALL,
-				Blocks.MUD_BRICK_WALL,
-				Blocks.NETHER_BRICK_WALL,
-				Blocks.ANDESITE_WALL,
-				Blocks.RED_NETHER_BRICK_WALL,
-				Blocks.SANDSTONE_WALL,
-				Blocks.END_STONE_BRICK_WALL,
-				Blocks.DIORITE_WALL,
-				Blocks.BLACKSTONE_WALL,
-				Blocks.POLISHED_BLACKSTONE_BRICK_WALL,
-				Blocks.POLISHED_BLACKSTONE_WALL,
-				Blocks.COBBLED_DEEPSLATE_WALL,
-				Blocks.POLISHED_DEEPSLATE_WALL,
-				Blocks.DEEPSLATE_TILE_WALL,
-				Blocks.DEEPSLATE_BRICK_WALL);
-		for (var block : vanillaWalls) {
-			if (block instanceof WallBlock wall) {
-				var registryName = Objects.requireNonNull(BuiltInRegistries.BLOCK.getKey(block));
-				var name = MimicWallBlock.toMimicId(registryName);
-				event.register(Registries.BLOCK, XKDeco.id(name), () -> new MimicWallBlock(wall));
+		if (!Registries.BLOCK.equals(event.getRegistryKey())) {
+			return;
+		}
+		// collect first, the registry must not be modified while iterating it
+		var walls = Maps.<ResourceLocation, WallBlock>newLinkedHashMap();
+		for (var include : XKDCommonConfig.mimicWallIncludes) {
+			if (!collectIncludedWalls(include, walls)) {
+				XKDeco.LOGGER.error(
+						"No wall matches {} in mimicWallIncludes, either it is not installed or it loads after {}",
+						include,
+						XKDeco.ID);
 			}
 		}
+		walls.forEach((registryName, wall) -> {
+			var block = new MimicWallBlock(wall);
+			event.register(Registries.BLOCK, XKDeco.id(MimicWallBlock.toMimicId(registryName)), () -> block);
+			MIMIC_WALLS.add(block);
+			MIMIC_WALL_HOLDERS.add(block.builtInRegistryHolder());
+		});
 	}
 
-	public static void addMimicWallItems(RegisterEvent event) {
-		for (var holder : BuiltInRegistries.BLOCK.asHolderIdMap()) {
-			var block = holder.value();
-			if (block instanceof MimicWallBlock wall) {
-				var registryName = holder.unwrapKey().orElseThrow().location();
-				event.register(Registries.ITEM, registryName, () -> new MimicWallItem(wall, new Item.Properties()));
+	/**
+	 * Adds the walls matching a namespace or block id, sorted by id so that the order does not depend on registration
+	 * order. Returns false if nothing matched, excluded walls count as matched.
+	 */
+	private static boolean collectIncludedWalls(String include, Map<ResourceLocation, WallBlock> walls) {
+		if (include.indexOf(ResourceLocation.NAMESPACE_SEPARATOR) >= 0) {
+			var registryName = ResourceLocation.tryParse(include);
+			if (registryName == null ||
+					!(BuiltInRegistries.BLOCK.get(registryName) instanceof WallBlock wall) ||
+					wall instanceof MimicWallBlock) {
+				return false;
+			}
+			if (!isExcluded(registryName)) {
+				walls.putIfAbsent(registryName, wall);
 			}
+			return true;
 		}
+		var matched = Lists.<Pair<ResourceLocation, WallBlock>>newArrayList();
+		for (var entry : BuiltInRegistries.BLOCK.entrySet()) {
+			var registryName = entry.getKey().location();
+			if (registryName.getNamespace().equals(include) &&
+					entry.getValue() instanceof WallBlock wall &&
+					!(wall instanceof MimicWallBlock)) {
+				matched.add(Pair.of(registryName, wall));
+			}
+		}
+		matched.sort(Comparator.comparing(Pair::getFirst));
+		for (var pair : matched) {
+			if (!isExcluded(pair.getFirst())) {
+				walls.putIfAbsent(pair.getFirst(), pair.getSecond());
+			}
+		}
+		return !matched.isEmpty();
 	}
 
-	public static void addMimicWallTags(Map<ResourceLocation, Collection<Holder<Block>>> tags) {
-		List<Holder<Block>> walls = Lists.newArrayList(tags.getOrDefault(BlockTags.WALLS.location(), List.of()));
-		for (var holder : BuiltInRegistries.BLOCK.asHolderIdMap()) {
-			if (holder.value() instanceof MimicWallBlock) {
-				walls.add(holder);
+	private static boolean isExcluded(ResourceLocation registryName) {
+		for (var exclude : XKDCommonConfig.mimicWallExcludes) {
+			if (exclude.equals(registryName.getNamespace()) || exclude.equals(registryName.toString())) {
+				return true;
 			}
 		}
-		tags.put(BlockTags.WALLS.location(), walls);
+		return false;
+	}
+
+	public static void addMimicWallItems(RegisterEvent event) {
+		if (!Registries.ITEM.equals(event.getRegistryKey())) {
+			return;
+		}
+		for (var wall : MIMIC_WALLS) {
+			var registryName = Objects.requireNonNull(BuiltInRegistries.BLOCK.getKey(wall));
+			event.register(Registries.ITEM, registryName, () -> new MimicWallItem(wall, new Item.Properties()));
+		}
+	}
+
+	/**
+	 * Appends the mimic walls to {@code #minecraft:walls}. Only the walls entry of the map is replaced,
+	 * so the map must be mutable, and the holders were collected when the walls were registered.
+	 */
+	public static void addMimicWallTags(Map<ResourceLocation, Collection<Holder<Block>>> tags) {
+		if (MIMIC_WALL_HOLDERS.isEmpty()) {
+			return;
+		}
+		var start = System.nanoTime();
+		appendToWalls(tags, MIMIC_WALL_HOLDERS);
+		XKDeco.LOGGER.debug(
+				"Added {} mimic walls to {} in {} us",
+				MIMIC_WALL_HOLDERS.size(),
+				BlockTags.WALLS.location(),
+				(System.nanoTime() - start) / 1000);
+	}
+
+	static void appendToWalls(Map<ResourceLocation, Collection<Holder<Block>>> tags, List<Holder<Block>> walls) {
+		var existing = tags.getOrDefault(BlockTags.WALLS.location(), List.of());
+		tags.put(BlockTags.WALLS.location(), ImmutableList.<Holder<Block>>builderWithExpectedSize(existing.size() + walls.size())
+				.addAll(existing)
+				.addAll(walls)
+				.build());
 	}
 
 	public static void addMimicWallsToTab(BuildCreativeModeTabContentsEvent event) {
@@ -1,17 +1,12 @@
 package org.teacon.xkdeco.item;
 
-import java.util.function.Consumer;
-
 import org.teacon.xkdeco.block.MimicWallBlock;
-import org.teacon.xkdeco.client.renderer.XKDecoWithoutLevelRenderer;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
-import net.minecraft.client.renderer.BlockEntityWithoutLevelRenderer;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.client.extensions.common.IClientItemExtensions;
 
 @Deprecated
 @MethodsReturnNonnullByDefault
@@ -25,14 +20,4 @@ public final class MimicWallItem extends BlockItem {
 	public Component getName(ItemStack pStack) {
 		return getBlock().getName();
 	}
-
-	@Override
-	public void initializeClient(Consumer<IClientItemExtensions> consumer) {
-		consumer.accept(new IClientItemExtensions() {
-			@Override
-			public BlockEntityWithoutLevelRenderer getCustomRenderer() {
-				return XKDecoWithoutLevelRenderer.INSTANCE;
-			}
-		});
-	}
 }
@@ -0,0 +1,46 @@
+package org.teacon.xkdeco.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.teacon.xkdeco.XKDCommonConfig;
+import org.teacon.xkdeco.XKDeco;
+import org.teacon.xkdeco.blockentity.MimicWallBlockEntity;
+import org.teacon.xkdeco.init.MimicWallsLoader;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+@Mixin(LevelChunk.class)
+public class LevelChunkMixin {
+	// a compile-time constant, so nothing is added to the static initializer of LevelChunk
+	@Unique
+	private static final String MIMIC_WALL_BLOCK_ENTITY = XKDeco.ID + ":" + MimicWallsLoader.WALL_BLOCK_ENTITY;
+
+	/**
+	 * Mimic walls saved by older versions carry a block entity. Unless the legacy block entity is enabled, it is
+	 * dropped when the chunk loads, so it is gone from the chunk the next time it is saved. Saved chunks load their
+	 * block entities through {@code ChunkSerializer.postLoadChunk}, which ends up here.
+	 */
+	@Inject(method = "setBlockEntity", at = @At("HEAD"), cancellable = true)
+	private void xkdeco$dropMimicWallBlockEntity(BlockEntity pBlockEntity, CallbackInfo ci) {
+		if (!XKDCommonConfig.mimicWallBlockEntity && pBlockEntity instanceof MimicWallBlockEntity) {
+			ci.cancel();
+		}
+	}
+
+	/**
+	 * Same as above for block entities kept packed in the chunk, which are only loaded when first accessed.
+	 */
+	@Inject(method = "promotePendingBlockEntity", at = @At("HEAD"), cancellable = true)
+	private void xkdeco$dropPendingMimicWallBlockEntity(BlockPos pPos, CompoundTag pTag, CallbackInfoReturnable<BlockEntity> cir) {
+		if (!XKDCommonConfig.mimicWallBlockEntity && MIMIC_WALL_BLOCK_ENTITY.equals(pTag.getString("id"))) {
+			cir.setReturnValue(null);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package org.teacon.xkdeco.mixin;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.spongepowered.asm.mixin.Mixin;
@@ -31,9 +32,13 @@ public class ReloadableServerResourcesMixin {
 			CallbackInfo ci,
 			@Local(argsOnly = true) LocalRef<TagManager.LoadResult<T>> resultRef) {
 		if (pLoadResult.key().equals(Registries.BLOCK)) {
-			var tags = (Map<ResourceLocation, Collection<Holder<Block>>>) (Object) Maps.newHashMap(pLoadResult.tags());
+			var tags = (Map<ResourceLocation, Collection<Holder<Block>>>) (Object) pLoadResult.tags();
+			if (!(tags instanceof HashMap)) {
+				// the tag loader builds a HashMap, only copy the map if another mod replaced it
+				tags = Maps.newHashMap(tags);
+				resultRef.set((TagManager.LoadResult<T>) new TagManager.LoadResult<>(Registries.BLOCK, tags));
+			}
 			MimicWallsLoader.addMimicWallTags(tags);
-			resultRef.set((TagManager.LoadResult<T>) new TagManager.LoadResult<>(Registries.BLOCK, tags));
 		}
 	}
 }
\ No newline at end of file
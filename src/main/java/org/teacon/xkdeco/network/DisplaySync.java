@@ -0,0 +1,69 @@
+package org.teacon.xkdeco.network;
+
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.network.PacketDistributor;
+import snownee.kiwi.util.NotNullByDefault;
+
+/**
+ * Collects display changes on the server and sends them once per tick and chunk to the players tracking that chunk.
+ * A display changed several times within a tick is only sent once, with its last value.
+ */
+@NotNullByDefault
+public final class DisplaySync {
+	private static final Map<ResourceKey<Level>, Long2ObjectMap<DisplaySyncPacket>> PENDING = Maps.newHashMap();
+
+	private DisplaySync() {
+	}
+
+	public static void queueItem(Level level, BlockPos pos, ItemStack item) {
+		if (level instanceof ServerLevel) {
+			getPending(level, pos).items().put(pos.immutable(), item.copy());
+		}
+	}
+
+	public static void queueBlockState(Level level, BlockPos pos, BlockState blockState) {
+		if (level instanceof ServerLevel) {
+			getPending(level, pos).blockStates().put(pos.immutable(), blockState);
+		}
+	}
+
+	private static DisplaySyncPacket getPending(Level level, BlockPos pos) {
+		return PENDING.computeIfAbsent(level.dimension(), $ -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(ChunkPos.asLong(pos), $ -> new DisplaySyncPacket());
+	}
+
+	public static void clear(ServerStoppedEvent event) {
+		PENDING.clear();
+	}
+
+	public static void flush(TickEvent.LevelTickEvent event) {
+		if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel level)) {
+			return;
+		}
+		var pending = PENDING.remove(level.dimension());
+		if (pending == null) {
+			return;
+		}
+		for (var entry : pending.long2ObjectEntrySet()) {
+			var packet = entry.getValue();
+			var chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(entry.getLongKey()), ChunkPos.getZ(entry.getLongKey()));
+			if (chunk != null && !packet.isEmpty()) {
+				XKDNetwork.CHANNEL.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), packet);
+			}
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package org.teacon.xkdeco.network;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.teacon.xkdeco.blockentity.BlockDisplayBlockEntity;
+import org.teacon.xkdeco.blockentity.ItemDisplayBlockEntity;
+import org.teacon.xkdeco.util.ClientProxy;
+
+import com.google.common.collect.Maps;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+import snownee.kiwi.util.NotNullByDefault;
+
+/**
+ * Changes of item and block displays in one chunk during one tick.
+ * Only the field that changed is sent: the item of item displays, and the block state id of block displays.
+ */
+@NotNullByDefault
+public record DisplaySyncPacket(Map<BlockPos, ItemStack> items, Map<BlockPos, BlockState> blockStates) {
+	public DisplaySyncPacket() {
+		this(Maps.newHashMap(), Maps.newHashMap());
+	}
+
+	public boolean isEmpty() {
+		return this.items.isEmpty() && this.blockStates.isEmpty();
+	}
+
+	public void encode(FriendlyByteBuf buf) {
+		buf.writeVarInt(this.items.size());
+		this.items.forEach((pos, item) -> {
+			buf.writeBlockPos(pos);
+			buf.writeItem(item);
+		});
+		buf.writeVarInt(this.blockStates.size());
+		this.blockStates.forEach((pos, blockState) -> {
+			buf.writeBlockPos(pos);
+			buf.writeVarInt(Block.getId(blockState));
+		});
+	}
+
+	public static DisplaySyncPacket decode(FriendlyByteBuf buf) {
+		var packet = new DisplaySyncPacket();
+		for (int i = buf.readVarInt(); i > 0; i--) {
+			packet.items.put(buf.readBlockPos(), buf.readItem());
+		}
+		for (int i = buf.readVarInt(); i > 0; i--) {
+			packet.blockStates.put(buf.readBlockPos(), Block.stateById(buf.readVarInt()));
+		}
+		return packet;
+	}
+
+	public void handle(Supplier<NetworkEvent.Context> context) {
+		DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> ClientProxy.handleDisplaySync(this));
+	}
+
+	public void apply(Level level) {
+		this.items.forEach((pos, item) -> {
+			if (level.getBlockEntity(pos) instanceof ItemDisplayBlockEntity blockEntity) {
+				blockEntity.setItem(item);
+			}
+		});
+		this.blockStates.forEach((pos, blockState) -> {
+			if (level.getBlockEntity(pos) instanceof BlockDisplayBlockEntity blockEntity) {
+				blockEntity.setStoredBlockState(blockState);
+			}
+		});
+	}
+}
@@ -0,0 +1,30 @@
+package org.teacon.xkdeco.network;
+
+import org.teacon.xkdeco.XKDeco;
+
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkRegistry;
+import net.minecraftforge.network.simple.SimpleChannel;
+
+public final class XKDNetwork {
+	private static final String PROTOCOL_VERSION = "1";
+	public static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
+			XKDeco.id("main"),
+			() -> PROTOCOL_VERSION,
+			PROTOCOL_VERSION::equals,
+			PROTOCOL_VERSION::equals);
+
+	private XKDNetwork() {
+	}
+
+	public static void init() {
+		CHANNEL.messageBuilder(DisplaySyncPacket.class, 0, NetworkDirection.PLAY_TO_CLIENT)
+				.encoder(DisplaySyncPacket::encode)
+				.decoder(DisplaySyncPacket::decode)
+				.consumerMainThread(DisplaySyncPacket::handle)
+				.add();
+		MinecraftForge.EVENT_BUS.addListener(DisplaySync::flush);
+		MinecraftForge.EVENT_BUS.addListener(DisplaySync::clear);
+	}
+}
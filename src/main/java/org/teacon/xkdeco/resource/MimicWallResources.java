@@ -3,16 +3,17 @@ package org.teacon.xkdeco.resource;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.jetbrains.annotations.Nullable;
 import org.teacon.xkdeco.XKDeco;
-import org.teacon.xkdeco.block.MimicWallBlock;
 import org.teacon.xkdeco.init.MimicWallsLoader;
 
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
 
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -26,8 +27,6 @@ import net.minecraft.server.packs.repository.Pack;
 import net.minecraft.server.packs.repository.PackSource;
 import net.minecraft.server.packs.resources.IoSupplier;
 import net.minecraft.world.flag.FeatureFlagSet;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraftforge.registries.ForgeRegistries;
 
 @MethodsReturnNonnullByDefault
@@ -41,6 +40,8 @@ public final class MimicWallResources implements PackResources {
 	private static final String NAME_KEY = "pack.xkdeco.mimic_walls";
 	private static final String ID = XKDeco.ID + "_" + MimicWallsLoader.WALL_BLOCK_ENTITY;
 
+	private static final Supplier<Map<ResourceLocation, byte[]>> RESOURCES = Suppliers.memoize(MimicWallResources::encodeResources);
+
 	private static final Pack.Info PACK_INFO = new Pack.Info(Component.translatable(NAME_KEY), 13, 13, FeatureFlagSet.of(), true);
 
 	private final String packId;
@@ -67,57 +68,43 @@ public final class MimicWallResources implements PackResources {
 		return null;
 	}
 
+	@Nullable
 	@Override
 	public IoSupplier<InputStream> getResource(PackType pType, ResourceLocation pLocation) {
-		return null;
+		if (pType != PackType.CLIENT_RESOURCES) {
+			return null;
+		}
+		var bytes = RESOURCES.get().get(pLocation);
+		return bytes == null ? null : () -> new ByteArrayInputStream(bytes);
 	}
 
 	@Override
 	public void listResources(PackType pType, String pNamespace, String pPath, PackResources.ResourceOutput output) {
-		if (pPath.equals("blockstates")) {
-			for (var block : walls()) {
-				var registryName = Objects.requireNonNull(ForgeRegistries.BLOCKS.getKey(block));
-				var name = MimicWallBlock.toMimicId(registryName);
-				output.accept(
-						XKDeco.id("blockstates/" + name + ".json"),
-						() -> new ByteArrayInputStream(BLOCK_MODEL.getBytes(StandardCharsets.UTF_8)));
-			}
-		} else if (pPath.equals("models")) {
-			for (var block : walls()) {
-				var registryName = Objects.requireNonNull(ForgeRegistries.BLOCKS.getKey(block));
-				var name = MimicWallBlock.toMimicId(registryName);
-				output.accept(
-						XKDeco.id("models/item/" + name + ".json"),
-						() -> new ByteArrayInputStream(ITEM_MODEL.getBytes(StandardCharsets.UTF_8)));
-			}
+		// model loading in this version still discovers blockstates and models by listing, so they are listed as well
+		if (pType != PackType.CLIENT_RESOURCES || !XKDeco.ID.equals(pNamespace)) {
+			return;
 		}
+		var prefix = pPath + "/";
+		RESOURCES.get().forEach((location, bytes) -> {
+			if (location.getPath().startsWith(prefix)) {
+				output.accept(location, () -> new ByteArrayInputStream(bytes));
+			}
+		});
 	}
 
-	private Collection<Block> walls() {
-		return List.of(
-				Blocks.COBBLESTONE_WALL,
-				Blocks.MOSSY_COBBLESTONE_WALL,
-				Blocks.BRICK_WALL,
-				Blocks.PRISMARINE_WALL,
-				Blocks.RED_SANDSTONE_WALL,
-				Blocks.MOSSY_STONE_BRICK_WALL,
-				Blocks.GRANITE_WALL,
-				Blocks.STONE_BRICK_WALL,
-				Blocks.MUD_BRICK_WALL,
-				Blocks.NETHER_BRICK_WALL,
-				Blocks.ANDESITE_WALL,
-				Blocks.RED_NETHER_BRICK_WALL,
-				Blocks.SANDSTONE_WALL,
-				Blocks.END_STONE_BRICK_WALL,
-				Blocks.DIORITE_WALL,
-				Blocks.BLACKSTONE_WALL,
-				Blocks.POLISHED_BLACKSTONE_BRICK_WALL,
-				Blocks.POLISHED_BLACKSTONE_WALL,
-				Blocks.COBBLED_DEEPSLATE_WALL,
-				Blocks.POLISHED_DEEPSLATE_WALL,
-				Blocks.DEEPSLATE_TILE_WALL,
-				Blocks.DEEPSLATE_BRICK_WALL
-		);
+	/**
+	 * Encodes the blockstate and item model of every mimic wall once, walls cannot change after registration.
+	 */
+	private static Map<ResourceLocation, byte[]> encodeResources() {
+		var blockModel = BLOCK_MODEL.getBytes(StandardCharsets.UTF_8);
+		var itemModel = ITEM_MODEL.getBytes(StandardCharsets.UTF_8);
+		var resources = ImmutableMap.<ResourceLocation, byte[]>builder();
+		for (var wall : MimicWallsLoader.mimicWalls()) {
+			var name = Objects.requireNonNull(ForgeRegistries.BLOCKS.getKey(wall)).getPath();
+			resources.put(XKDeco.id("blockstates/" + name + ".json"), blockModel);
+			resources.put(XKDeco.id("models/item/" + name + ".json"), itemModel);
+		}
+		return resources.build();
 	}
 
 	@Override
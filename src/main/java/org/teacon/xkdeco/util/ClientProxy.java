@@ -1,14 +1,26 @@
 package org.teacon.xkdeco.util;
 
+import java.util.HashMap;
 import java.util.List;
 
+import org.teacon.xkdeco.block.BlockDisplayBlock;
+import org.teacon.xkdeco.block.ItemDisplayBlock;
+import org.teacon.xkdeco.block.MimicWallBlock;
+import org.teacon.xkdeco.blockentity.MimicWallBlockEntity;
 import org.teacon.xkdeco.client.forge.UnbakedGeometryWrapper;
 import org.teacon.xkdeco.client.model.AirDuctModel;
+import org.teacon.xkdeco.client.model.BlockDisplayBakedModel;
+import org.teacon.xkdeco.client.model.ItemDisplayBakedModel;
+import org.teacon.xkdeco.client.model.MimicWallItemBakedModel;
+import org.teacon.xkdeco.client.model.MimicWallModel;
 import org.teacon.xkdeco.client.renderer.BlockDisplayRenderer;
+import org.teacon.xkdeco.client.renderer.BlockEntityCulling;
 import org.teacon.xkdeco.client.renderer.ItemDisplayRenderer;
 import org.teacon.xkdeco.client.renderer.MimicWallRenderer;
-import org.teacon.xkdeco.client.renderer.XKDecoWithoutLevelRenderer;
+import org.teacon.xkdeco.client.renderer.ProjectorImpostors;
 import org.teacon.xkdeco.init.XKDecoEntityTypes;
+import org.teacon.xkdeco.item.MimicWallItem;
+import org.teacon.xkdeco.network.DisplaySyncPacket;
 import org.teacon.xkdeco.resource.MimicWallResources;
 
 import com.google.gson.JsonDeserializationContext;
@@ -18,17 +30,26 @@ import com.mojang.datafixers.util.Pair;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.MethodsReturnNonnullByDefault;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.color.block.BlockColor;
 import net.minecraft.client.color.item.ItemColor;
+import net.minecraft.client.renderer.block.BlockModelShaper;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.ModelBakery;
+import net.minecraft.client.resources.model.ModelResourceLocation;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraftforge.client.event.EntityRenderersEvent;
 import net.minecraftforge.client.event.ModelEvent;
 import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.client.event.RegisterColorHandlersEvent;
 import net.minecraftforge.client.model.geometry.IGeometryLoader;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.AddPackFindersEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 
@@ -36,8 +57,9 @@ import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 @ParametersAreNonnullByDefault
 public final class ClientProxy {
 
-	public static void setItemRenderers(RegisterClientReloadListenersEvent event) {
-		event.registerReloadListener(XKDecoWithoutLevelRenderer.INSTANCE);
+	public static void registerReloadListeners(RegisterClientReloadListenersEvent event) {
+		event.registerReloadListener(ProjectorImpostors.INSTANCE);
+		event.registerReloadListener((ResourceManagerReloadListener) ItemDisplayBakedModel::onResourceManagerReload);
 	}
 
 	public static void setEntityRenderers(EntityRenderersEvent.RegisterRenderers event) {
@@ -46,15 +68,83 @@ public final class ClientProxy {
 		event.registerBlockEntityRenderer(XKDecoEntityTypes.BLOCK_DISPLAY.getOrCreate(), BlockDisplayRenderer::new);
 	}
 
+	/**
+	 * Wraps the display block models so that static displays can add their contents to the chunk mesh.
+	 */
+	public static void wrapDisplayModels(ModelEvent.ModifyBakingResult event) {
+		var models = event.getModels();
+		for (var block : BuiltInRegistries.BLOCK) {
+			if (block instanceof ItemDisplayBlock) {
+				for (var blockState : block.getStateDefinition().getPossibleStates()) {
+					models.computeIfPresent(BlockModelShaper.stateToModelLocation(blockState), ($, model) -> new ItemDisplayBakedModel(model));
+				}
+			} else if (block instanceof BlockDisplayBlock) {
+				for (var blockState : block.getStateDefinition().getPossibleStates()) {
+					models.computeIfPresent(BlockModelShaper.stateToModelLocation(blockState), ($, model) -> new BlockDisplayBakedModel(model));
+				}
+			}
+		}
+	}
+
+	public static void registerDisplayColors(RegisterColorHandlersEvent.Block event) {
+		var displays = BuiltInRegistries.BLOCK.stream().filter(BlockDisplayBlock.class::isInstance).toArray(Block[]::new);
+		event.register(BlockDisplayBakedModel::getColor, displays);
+	}
+
+	public static void registerMimicWallItemColors(RegisterColorHandlersEvent.Item event) {
+		for (var item : BuiltInRegistries.ITEM) {
+			if (item instanceof MimicWallItem wallItem && wallItem.getBlock() instanceof MimicWallBlock wall) {
+				event.register(MimicWallItemBakedModel.getColor(wall), item);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the item models of mimic walls with the post of their delegate wall, baked once per delegate.
+	 */
+	public static void bakeMimicWallItemModels(ModelEvent.ModifyBakingResult event) {
+		var models = event.getModels();
+		var missingModel = models.get(ModelBakery.MISSING_MODEL_LOCATION);
+		var postModels = new HashMap<Block, BakedModel>();
+		for (var item : BuiltInRegistries.ITEM) {
+			if (!(item instanceof MimicWallItem wallItem) || !(wallItem.getBlock() instanceof MimicWallBlock wall)) {
+				continue;
+			}
+			var location = new ModelResourceLocation(BuiltInRegistries.ITEM.getKey(item), "inventory");
+			var itemModel = models.get(location);
+			if (itemModel == null) {
+				continue;
+			}
+			var delegate = wall.getWallDelegate();
+			var postModel = postModels.computeIfAbsent(delegate, $ -> {
+				var postState = MimicWallBlock.toDelegateState(
+						wall.defaultBlockState().setValue(BlockStateProperties.UP, true),
+						delegate,
+						BlockStateProperties.UP);
+				var model = models.getOrDefault(BlockModelShaper.stateToModelLocation(postState), missingModel);
+				return new MimicWallItemBakedModel(postState, model, itemModel.getTransforms());
+			});
+			models.put(location, postModel);
+		}
+	}
+
 	public static void setAdditionalPackFinder(AddPackFindersEvent event) {
 		event.addRepositorySource(consumer -> consumer.accept(MimicWallResources.create()));
 	}
 
 	public static void init() {
 		var modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
-		modEventBus.addListener(ClientProxy::setItemRenderers);
+		modEventBus.addListener(ClientProxy::registerReloadListeners);
 		modEventBus.addListener(ClientProxy::setEntityRenderers);
 		modEventBus.addListener(ClientProxy::setAdditionalPackFinder);
+		modEventBus.addListener(ClientProxy::wrapDisplayModels);
+		modEventBus.addListener(ClientProxy::registerDisplayColors);
+		modEventBus.addListener(ClientProxy::registerMimicWallItemColors);
+		modEventBus.addListener(ClientProxy::bakeMimicWallItemModels);
+		MinecraftForge.EVENT_BUS.addListener(ProjectorImpostors.INSTANCE::renderPending);
+		MinecraftForge.EVENT_BUS.addListener(BlockEntityCulling::onRenderTick);
+		MinecraftForge.EVENT_BUS.addListener(BlockEntityCulling::addDebugText);
+		MinecraftForge.EVENT_BUS.addListener(MimicWallBlockEntity::refreshChunkEdges);
 
 		modEventBus.addListener((ModelEvent.RegisterGeometryLoaders event) -> {
 			event.register("air_duct", new IGeometryLoader<UnbakedGeometryWrapper>() {
@@ -69,9 +159,17 @@ public final class ClientProxy {
 					return new UnbakedGeometryWrapper(new AirDuctModel(straight, corner, cover, frame));
 				}
 			});
+			event.register("mimic_wall", (jsonObject, deserializationContext) -> new UnbakedGeometryWrapper(new MimicWallModel()));
 		});
 	}
 
+	public static void handleDisplaySync(DisplaySyncPacket packet) {
+		var level = Minecraft.getInstance().level;
+		if (level != null) {
+			packet.apply(level);
+		}
+	}
+
 	public static void registerColors(List<Pair<Block, BlockColor>> blocksToAdd, List<Pair<Item, ItemColor>> itemsToAdd) {
 		var modEventBus = FMLJavaModLoadingContext.get().getModEventBus();
 		if (!blocksToAdd.isEmpty()) {
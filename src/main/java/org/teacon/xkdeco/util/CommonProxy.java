@@ -1,12 +1,15 @@
 package org.teacon.xkdeco.util;
 
 import org.teacon.xkdeco.XKDeco;
+import org.teacon.xkdeco.block.AirDuctBlock;
 import org.teacon.xkdeco.block.OneDirectionFenceGateBlock;
 import org.teacon.xkdeco.block.SpecialSlabBlock;
 import org.teacon.xkdeco.block.XKDBlock;
+import org.teacon.xkdeco.block.impl.MetalLadderCanSurviveHandler;
 import org.teacon.xkdeco.data.XKDDataGen;
 import org.teacon.xkdeco.init.MimicWallsLoader;
 import org.teacon.xkdeco.mixin.forge.FenceGateBlockAccess;
+import org.teacon.xkdeco.network.XKDNetwork;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
@@ -16,7 +19,9 @@ import net.minecraft.sounds.SoundEvent;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.FenceGateBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.data.event.GatherDataEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
@@ -38,6 +43,10 @@ public class CommonProxy {
 			new XKDDataGen().onInitializeDataGenerator(dataGenerator);
 		});
 
+		XKDNetwork.init();
+		MinecraftForge.EVENT_BUS.addListener((TagsUpdatedEvent event) -> AirDuctBlock.clearSlotCache());
+		MinecraftForge.EVENT_BUS.addListener(MetalLadderCanSurviveHandler::removeUnanchoredColumns);
+
 		if (Platform.isPhysicalClient()) {
 			ClientProxy.init();
 		}
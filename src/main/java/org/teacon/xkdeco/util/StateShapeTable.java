@@ -0,0 +1,43 @@
+package org.teacon.xkdeco.util;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import net.minecraft.MethodsReturnNonnullByDefault;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * Shapes of a block whose shape only depends on the state, resolved once for every state. States of a block are
+ * registered with consecutive ids in {@link #states} order, so a state is found at its id minus the id of the first state.
+ */
+@MethodsReturnNonnullByDefault
+@ParametersAreNonnullByDefault
+public final class StateShapeTable {
+	private final List<BlockState> states;
+	private final VoxelShape[] shapes;
+	private int firstId = -1;
+
+	public StateShapeTable(List<BlockState> states, Function<BlockState, VoxelShape> shapeFunction) {
+		this.states = states;
+		this.shapes = new VoxelShape[states.size()];
+		for (int i = 0; i < this.shapes.length; i++) {
+			this.shapes[i] = shapeFunction.apply(states.get(i));
+		}
+	}
+
+	public VoxelShape get(BlockState state) {
+		int index = Block.getId(state) - this.firstId;
+		if (index < 0 || index >= this.shapes.length || this.states.get(index) != state) {
+			// ids are assigned when the block is registered, after it was constructed, and again when registries sync
+			this.firstId = Block.getId(this.states.get(0));
+			index = Block.getId(state) - this.firstId;
+			if (index < 0 || index >= this.shapes.length || this.states.get(index) != state) {
+				index = this.states.indexOf(state);
+			}
+		}
+		return this.shapes[index];
+	}
+}